@@ -1,12 +1,25 @@
 package eternalpolar.spigot.eternaloptimization.Commands;
 
 import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.ChunkManager;
 import eternalpolar.spigot.eternaloptimization.Module.Load.ChuckLoadOptimizated;
 import eternalpolar.spigot.eternaloptimization.Module.Load.ChuckPreloadOptimizated;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkBudgetController;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkHeatmap;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkModificationTracker;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkPreloadBackend;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkPregenerator;
+import eternalpolar.spigot.eternaloptimization.Module.Load.Eviction.EvictionStats;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ExplorationThrottle;
+import eternalpolar.spigot.eternaloptimization.Module.Load.JoinWarmup;
+import eternalpolar.spigot.eternaloptimization.Module.Load.PreloadStats;
+import eternalpolar.spigot.eternaloptimization.Module.Load.UnloadBatcher;
 import eternalpolar.spigot.eternaloptimization.Module.Other.PacketsReceiveOptimizated;
 import eternalpolar.spigot.eternaloptimization.Utils.PerformanceMonitor;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -17,6 +30,11 @@ public class CMD implements CommandExecutor {
     private final EternalOptimization plugin;
     private final ChuckLoadOptimizated chuckOptimizer;
     private final ChuckPreloadOptimizated chuckPreloadOptimizer;
+    private final ChunkManager chunkManager;
+    private final ChunkHeatmap chunkHeatmap;
+    private final JoinWarmup joinWarmup;
+    private final ChunkPregenerator chunkPregenerator;
+    private final ExplorationThrottle explorationThrottle;
     private final PerformanceMonitor performanceMonitor;
     private final PacketsReceiveOptimizated packetOptimizer;
     private final boolean hasProtocolLib;
@@ -30,6 +48,11 @@ public class CMD implements CommandExecutor {
         this.plugin = plugin;
         this.chuckOptimizer = plugin.getChuckOptimizer();
         this.chuckPreloadOptimizer = plugin.getChuckPreloadOptimizer();
+        this.chunkManager = plugin.getChunkManager();
+        this.chunkHeatmap = plugin.getChunkHeatmap();
+        this.joinWarmup = plugin.getJoinWarmup();
+        this.chunkPregenerator = plugin.getChunkPregenerator();
+        this.explorationThrottle = plugin.getExplorationThrottle();
         this.performanceMonitor = plugin.getPerformanceMonitor();
         this.packetOptimizer = plugin.getPacketOptimizer();
         this.hasProtocolLib = Bukkit.getPluginManager().isPluginEnabled("ProtocolLib");
@@ -53,6 +76,12 @@ public class CMD implements CommandExecutor {
                 return handleStatus(sender);
             case "packets":
                 return handlePackets(sender);
+            case "pregen":
+                if (!sender.hasPermission("eternaloptimization.admin")) {
+                    sender.sendMessage(noPermissionMsg);
+                    return true;
+                }
+                return handlePregen(sender, args);
             case "help":
                 sendHelp(sender);
                 return true;
@@ -64,12 +93,12 @@ public class CMD implements CommandExecutor {
 
     private boolean handleReload(CommandSender sender) {
         plugin.reloadConfig();
+        plugin.getTickScheduler().loadConfig();
+        plugin.getModificationTracker().loadConfig();
 
         if (chuckOptimizer != null) {
             try {
-                java.lang.reflect.Method loadConfigMethod = ChuckLoadOptimizated.class.getDeclaredMethod("loadConfig");
-                loadConfigMethod.setAccessible(true);
-                loadConfigMethod.invoke(chuckOptimizer);
+                chuckOptimizer.loadConfig();
             } catch (Exception e) {
                 sender.sendMessage(ChatColor.RED + "Failed to reload chunk unload configuration: " + e.getMessage());
                 return true;
@@ -85,6 +114,51 @@ public class CMD implements CommandExecutor {
             }
         }
 
+        if (chunkHeatmap != null) {
+            try {
+                chunkHeatmap.loadConfig();
+            } catch (Exception e) {
+                sender.sendMessage(ChatColor.RED + "Failed to reload heatmap configuration: " + e.getMessage());
+                return true;
+            }
+        }
+
+        if (chunkPregenerator != null) {
+            try {
+                chunkPregenerator.loadConfig();
+            } catch (Exception e) {
+                sender.sendMessage(ChatColor.RED + "Failed to reload pre-generation configuration: " + e.getMessage());
+                return true;
+            }
+        }
+
+        if (joinWarmup != null) {
+            try {
+                joinWarmup.loadConfig();
+            } catch (Exception e) {
+                sender.sendMessage(ChatColor.RED + "Failed to reload join warmup configuration: " + e.getMessage());
+                return true;
+            }
+        }
+
+        if (explorationThrottle != null) {
+            try {
+                explorationThrottle.loadConfig();
+            } catch (Exception e) {
+                sender.sendMessage(ChatColor.RED + "Failed to reload exploration throttle configuration: " + e.getMessage());
+                return true;
+            }
+        }
+
+        if (chunkManager != null) {
+            try {
+                chunkManager.loadConfig();
+            } catch (Exception e) {
+                sender.sendMessage(ChatColor.RED + "Failed to reload chunk strategy configuration: " + e.getMessage());
+                return true;
+            }
+        }
+
         if (hasProtocolLib && packetOptimizer != null) {
             try {
                 packetOptimizer.reloadConfig();
@@ -118,12 +192,59 @@ public class CMD implements CommandExecutor {
         sender.sendMessage("");
 
         sender.sendMessage(ChatColor.GOLD + "Chunk Status:");
+        ChunkBudgetController budgetController = chuckOptimizer != null && chuckOptimizer.isEnabled() ? chuckOptimizer.getBudgetController() : null;
+        if (budgetController != null && budgetController.isEnabled()) {
+            sender.sendMessage(String.format(ChatColor.GRAY + "Adaptive budget: x%.2f | pressure %.2f (%.1f mspt, %.0f%% old gen)",
+                    budgetController.getScale(),
+                    budgetController.getPressure(),
+                    budgetController.getLastMspt(),
+                    budgetController.getLastHeapPercent()));
+        }
+        ChunkModificationTracker modificationTracker = plugin.getModificationTracker();
+        if (modificationTracker.isEnabled()) {
+            sender.sendMessage(String.format(ChatColor.GRAY + "Dirty tracking: %d of %d unloads skipped saving (%.1f%%) | %d chunks tracked",
+                    modificationTracker.getSkippedSaves(),
+                    modificationTracker.getUnloads(),
+                    modificationTracker.getUnloads() == 0 ? 0.0 : modificationTracker.getSkippedSaves() * 100.0 / modificationTracker.getUnloads(),
+                    modificationTracker.getTrackedChunks()));
+        }
+        UnloadBatcher unloadBatcher = chuckOptimizer != null && chuckOptimizer.isEnabled() ? chuckOptimizer.getUnloadBatcher() : null;
+        if (unloadBatcher != null) {
+            sender.sendMessage(String.format(ChatColor.GRAY + "Unload batching: %d chunks saved from %d regions (%.1f per region) | %d queued",
+                    unloadBatcher.getFlushedChunks(),
+                    unloadBatcher.getFlushedRegions(),
+                    unloadBatcher.getFlushedRegions() == 0 ? 0.0 : unloadBatcher.getFlushedChunks() / (double) unloadBatcher.getFlushedRegions(),
+                    unloadBatcher.getQueued()));
+        }
         int totalLoaded = 0;
         for (org.bukkit.World world : Bukkit.getWorlds()) {
             int loaded = world.getLoadedChunks().length;
             totalLoaded += loaded;
-            int preloaded = chuckPreloadOptimizer != null ? chuckPreloadOptimizer.getPreloadedChunkCount(world.getName()) : 0;
-            sender.sendMessage(ChatColor.GRAY + world.getName() + ": " + loaded + " loaded chunks | " + preloaded + " preloaded chunks");
+            int preloaded = chuckPreloadOptimizer != null ? chuckPreloadOptimizer.getPreloadedChunkCount(world) : 0;
+            int budget = chuckOptimizer != null && chuckOptimizer.isEnabled() ? chuckOptimizer.getMaxLoadedChunks(world) : 0;
+            boolean freezing = chuckOptimizer != null && chuckOptimizer.isEnabled() && chuckOptimizer.getFreezer().isEnabled();
+            sender.sendMessage(ChatColor.GRAY + world.getName() + ": " + loaded + (budget > 0 ? "/" + budget : "") + " loaded chunks | "
+                    + (freezing ? chuckOptimizer.getFrozenChunks(world) + " frozen | " : "") + preloaded + " preloaded chunks");
+            EvictionStats evictionStats = chuckOptimizer != null && chuckOptimizer.isEnabled() ? chuckOptimizer.getEvictionStats(world) : null;
+            if (evictionStats != null) {
+                sender.sendMessage(String.format(ChatColor.GRAY + "  Eviction (%s): %d evicted | %d reloaded | %.2f%% thrash | %d areas held longer",
+                        chuckOptimizer.getEvictionPolicyName(world),
+                        evictionStats.getEvictions(),
+                        evictionStats.getReloads(),
+                        evictionStats.getThrashRate(),
+                        chuckOptimizer.getExtendedUnloadAreas(world)));
+            }
+            PreloadStats preloadStats = chuckPreloadOptimizer != null && chuckPreloadOptimizer.isEnabled() ? chuckPreloadOptimizer.getPreloadStats(world) : null;
+            if (preloadStats != null) {
+                sender.sendMessage(String.format(ChatColor.GRAY + "  Preload: %.2f%% hit (%d hit, %d wasted) | first entry avg %.0f ms | radius %d, delay %d, max %d",
+                        preloadStats.getHitRate() * 100,
+                        preloadStats.getHits(),
+                        preloadStats.getMisses(),
+                        preloadStats.getAverageFirstEntryMillis(),
+                        chuckPreloadOptimizer.getPreloadRadius(world),
+                        chuckPreloadOptimizer.getPreloadDelay(world),
+                        chuckPreloadOptimizer.getMaxPreloadedChunks(world)));
+            }
         }
         sender.sendMessage(ChatColor.GRAY + "Total loaded chunks: " + totalLoaded);
         if (chuckPreloadOptimizer != null) {
@@ -133,12 +254,53 @@ public class CMD implements CommandExecutor {
 
         sender.sendMessage(ChatColor.GOLD + "Optimization Status:");
         sender.sendMessage(ChatColor.GRAY + "Chunk Load Optimization: " + (chuckOptimizer != null && chuckOptimizer.isEnabled() ? ChatColor.GREEN + "Enabled" : ChatColor.RED + "Disabled"));
-        sender.sendMessage(ChatColor.GRAY + "Chunk Preload Optimization: " + (chuckPreloadOptimizer != null && chuckPreloadOptimizer.isEnabled() ? ChatColor.GREEN + "Enabled" : ChatColor.RED + "Disabled"));
+        sender.sendMessage(ChatColor.GRAY + "Chunk Preload Optimization: " + (chuckPreloadOptimizer != null && chuckPreloadOptimizer.isEnabled()
+                ? ChatColor.GREEN + "Enabled" + ChatColor.GRAY + " (" + chuckPreloadOptimizer.getBackendName() + ", " + chuckPreloadOptimizer.getRetentionName() + ", " + chuckPreloadOptimizer.getBackendInFlight() + " in flight)"
+                : ChatColor.RED + "Disabled"));
+        if (chuckPreloadOptimizer != null && chuckPreloadOptimizer.getBackend() != null) {
+            ChunkPreloadBackend backend = chuckPreloadOptimizer.getBackend();
+            sender.sendMessage(String.format(ChatColor.GRAY + "  Preload queue: %d queued | wait avg %.1f ms, max %d ms | %d dropped, %d superseded",
+                    backend.getQueueLength(),
+                    backend.getAverageWaitMillis(),
+                    backend.getMaxWaitMillis(),
+                    backend.getDropped(),
+                    backend.getCancelled()));
+        }
+        sender.sendMessage(ChatColor.GRAY + "Chunk Heatmap: " + (chunkHeatmap != null && chunkHeatmap.isEnabled()
+                ? ChatColor.GREEN + "Enabled" + ChatColor.GRAY + " (" + chunkHeatmap.getTrackedChunks() + " chunks tracked, "
+                        + chunkHeatmap.getWarmed() + "/" + chunkHeatmap.getWarmupTotal() + " warmed at startup)"
+                : ChatColor.RED + "Disabled"));
+        sender.sendMessage(ChatColor.GRAY + "Join Warmup: " + (joinWarmup != null && joinWarmup.isEnabled()
+                ? ChatColor.GREEN + "Enabled" + ChatColor.GRAY + " (" + joinWarmup.getKnownLocations() + " logout locations, "
+                        + joinWarmup.getWarmedJoins() + " joins warmed, " + plugin.getChunkOccupancy().getActivePins() + " areas pinned)"
+                : ChatColor.RED + "Disabled"));
+        sender.sendMessage(ChatColor.GRAY + "Exploration: " + (explorationThrottle != null && explorationThrottle.isEnabled()
+                ? ChatColor.GREEN + String.format("%.1f", explorationThrottle.getChunksPerSecond()) + ChatColor.GRAY
+                        + String.format(" new chunks/s (peak %.1f, %d total) | %d players throttled, %d throttle actions",
+                        explorationThrottle.getPeakChunksPerSecond(), explorationThrottle.getGenerated(),
+                        explorationThrottle.getThrottledPlayers(), explorationThrottle.getThrottleActions())
+                : ChatColor.RED + "Disabled"));
+        sender.sendMessage(ChatColor.GRAY + "Chunk Strategies: " + (chunkManager != null && chunkManager.isEnabled()
+                ? ChatColor.GREEN + String.join(", ", chunkManager.getStrategyNames()) + ChatColor.GRAY + " | " + chunkManager.getTotalOptimizedChunks() + " chunks unloaded"
+                : ChatColor.RED + "Disabled"));
         if (hasProtocolLib) {
             sender.sendMessage(ChatColor.GRAY + "Packet Optimization: " + (packetOptimizer != null && packetOptimizer.isEnabled() ? ChatColor.GREEN + "Enabled" : ChatColor.RED + "Disabled"));
         } else {
             sender.sendMessage(ChatColor.GRAY + "Packet Optimization: " + ChatColor.YELLOW + "ProtocolLib not installed");
         }
+        sender.sendMessage("");
+
+        sender.sendMessage(ChatColor.GOLD + "Tick Budget:");
+        for (TickScheduler.Lane lane : plugin.getTickScheduler().getLanes()) {
+            sender.sendMessage(String.format(ChatColor.GRAY + "%s: %d queued | %d/%d us last tick | %d overruns (max +%d us) | %d late",
+                    lane.getName(),
+                    lane.getQueueDepth(),
+                    lane.getLastUsedMicros(),
+                    lane.getBudgetMicros(),
+                    lane.getOverruns(),
+                    lane.getMaxOverrunMicros(),
+                    lane.getLate()));
+        }
 
         sender.sendMessage(ChatColor.GOLD + "==================================");
 
@@ -204,6 +366,80 @@ public class CMD implements CommandExecutor {
         return true;
     }
 
+    private boolean handlePregen(CommandSender sender, String[] args) {
+        if (chunkPregenerator == null) {
+            sender.sendMessage(ChatColor.RED + "Pre-generation is not available");
+            return true;
+        }
+
+        String action = args.length > 1 ? args[1].toLowerCase() : "status";
+        switch (action) {
+            case "status":
+                sendPregenStatus(sender);
+                return true;
+            case "pause":
+                sender.sendMessage(chunkPregenerator.pause()
+                        ? ChatColor.GREEN + "Pre-generation paused, progress saved"
+                        : ChatColor.RED + "No running pre-generation to pause");
+                return true;
+            case "resume":
+                sender.sendMessage(chunkPregenerator.resume()
+                        ? ChatColor.GREEN + "Pre-generation resumed"
+                        : ChatColor.RED + "No paused pre-generation to resume");
+                return true;
+            case "stop":
+                sender.sendMessage(chunkPregenerator.stop()
+                        ? ChatColor.GREEN + "Pre-generation stopped and checkpoint removed"
+                        : ChatColor.RED + "No pre-generation to stop");
+                return true;
+            default:
+                break;
+        }
+
+        World world = Bukkit.getWorld(args[1]);
+        if (world == null || args.length < 3) {
+            sender.sendMessage(ChatColor.RED + "Usage: /eternaloptimization pregen <world> <radius> [spiral|region] | status | pause | resume | stop");
+            return true;
+        }
+
+        int radius;
+        try {
+            radius = Integer.parseInt(args[2]);
+        } catch (NumberFormatException e) {
+            sender.sendMessage(ChatColor.RED + "Radius must be a number of blocks");
+            return true;
+        }
+        if (radius <= 0) {
+            sender.sendMessage(ChatColor.RED + "Radius must be a number of blocks");
+            return true;
+        }
+
+        ChunkPregenerator.Order order = args.length > 3 ? ChunkPregenerator.parseOrder(args[3]) : chunkPregenerator.getDefaultOrder();
+        if (!chunkPregenerator.start(world, radius, order)) {
+            sender.sendMessage(ChatColor.RED + "A pre-generation is already in progress. Use /eternaloptimization pregen stop first.");
+            return true;
+        }
+        sender.sendMessage(ChatColor.GREEN + "Pre-generating " + world.getName() + " within " + radius + " blocks of the border center ("
+                + order.name().toLowerCase() + " order)");
+        return true;
+    }
+
+    private void sendPregenStatus(CommandSender sender) {
+        ChunkPregenerator.Job job = chunkPregenerator.getJob();
+        if (job == null) {
+            sender.sendMessage(ChatColor.GRAY + "No pre-generation in progress");
+            return;
+        }
+
+        long eta = job.getEtaSeconds();
+        sender.sendMessage(ChatColor.GOLD + "Pre-generation of " + job.getWorldName() + (job.isPaused() ? ChatColor.YELLOW + " (paused)" : ""));
+        sender.sendMessage(String.format(ChatColor.GRAY + "Progress: %.2f%% | %d generated, %d already present",
+                job.getProgress(), job.getCompleted(), job.getSkipped()));
+        sender.sendMessage(String.format(ChatColor.GRAY + "Throughput: %.1f chunks/s | %d in flight, pacing window %d | ETA %s",
+                job.getChunksPerSecond(), job.getInFlight(), job.getWindow(),
+                eta < 0 ? "unknown" : (eta / 3600) + "h " + (eta / 60 % 60) + "m " + (eta % 60) + "s"));
+    }
+
     private void sendHelp(CommandSender sender) {
         boolean isAdmin = sender.hasPermission("eternaloptimization.admin");
 
@@ -219,6 +455,10 @@ public class CMD implements CommandExecutor {
             sender.sendMessage(ChatColor.DARK_GRAY + "Show plugin status, memory usage, chunk stats and optimization status");
             sender.sendMessage("");
 
+            sender.sendMessage(ChatColor.GRAY + "-> " + ChatColor.AQUA + "/eternaloptimization pregen <world> <radius> [spiral|region]");
+            sender.sendMessage(ChatColor.DARK_GRAY + "Pre-generate chunks around the world border center; also status, pause, resume, stop");
+            sender.sendMessage("");
+
             if (hasProtocolLib) {
                 sender.sendMessage(ChatColor.GRAY + "-> " + ChatColor.AQUA + "/eternaloptimization packets");
                 sender.sendMessage(ChatColor.DARK_GRAY + "Show packet optimization statistics");
@@ -1,5 +1,7 @@
 package eternalpolar.spigot.eternaloptimization.Commands;
 
+import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
@@ -12,7 +14,9 @@ import java.util.List;
 
 public class EOCommandCompleter implements TabCompleter {
 
-    private static final List<String> SUBCOMMANDS = Arrays.asList("reload", "status", "packets", "help");
+    private static final List<String> SUBCOMMANDS = Arrays.asList("reload", "status", "packets", "pregen", "help");
+    private static final List<String> PREGEN_ACTIONS = Arrays.asList("status", "pause", "resume", "stop");
+    private static final List<String> PREGEN_ORDERS = Arrays.asList("spiral", "region");
 
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
@@ -20,6 +24,16 @@ public class EOCommandCompleter implements TabCompleter {
 
         if (args.length == 1) {
             StringUtil.copyPartialMatches(args[0], SUBCOMMANDS, completions);
+        } else if (args[0].equalsIgnoreCase("pregen")) {
+            if (args.length == 2) {
+                List<String> options = new ArrayList<>(PREGEN_ACTIONS);
+                for (World world : Bukkit.getWorlds()) {
+                    options.add(world.getName());
+                }
+                StringUtil.copyPartialMatches(args[1], options, completions);
+            } else if (args.length == 4 && Bukkit.getWorld(args[1]) != null) {
+                StringUtil.copyPartialMatches(args[3], PREGEN_ORDERS, completions);
+            }
         }
 
         Collections.sort(completions);
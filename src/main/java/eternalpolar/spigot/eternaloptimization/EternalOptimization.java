@@ -2,11 +2,20 @@ package eternalpolar.spigot.eternaloptimization;
 
 import eternalpolar.spigot.eternaloptimization.Commands.CMD;
 import eternalpolar.spigot.eternaloptimization.Commands.EOCommandCompleter;
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.ChunkManager;
 import eternalpolar.spigot.eternaloptimization.Module.Load.ChuckLoadOptimizated;
 import eternalpolar.spigot.eternaloptimization.Module.Load.ChuckPreloadOptimizated;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkHeatmap;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkModificationTracker;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkPipeline;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkPregenerator;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkOccupancy;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ExplorationThrottle;
+import eternalpolar.spigot.eternaloptimization.Module.Load.JoinWarmup;
 import eternalpolar.spigot.eternaloptimization.Module.Other.PacketsReceiveOptimizated;
 import eternalpolar.spigot.eternaloptimization.Utils.Metrics;
 import eternalpolar.spigot.eternaloptimization.Utils.PerformanceMonitor;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -14,8 +23,17 @@ import org.bukkit.plugin.java.JavaPlugin;
 public class EternalOptimization extends JavaPlugin {
 
     private static EternalOptimization instance;
+    private TickScheduler tickScheduler;
+    private ChunkOccupancy chunkOccupancy;
+    private ChunkModificationTracker modificationTracker;
+    private ChunkPipeline chunkPipeline;
     private ChuckLoadOptimizated chuckOptimizer;
     private ChuckPreloadOptimizated chuckPreloadOptimizer;
+    private ChunkHeatmap chunkHeatmap;
+    private JoinWarmup joinWarmup;
+    private ChunkPregenerator chunkPregenerator;
+    private ExplorationThrottle explorationThrottle;
+    private ChunkManager chunkManager;
     private PacketsReceiveOptimizated packetOptimizer;
     private PerformanceMonitor performanceMonitor;
     private CMD commandHandler;
@@ -26,8 +44,17 @@ public class EternalOptimization extends JavaPlugin {
         saveDefaultConfig();
 
         this.performanceMonitor = new PerformanceMonitor(this);
+        this.tickScheduler = new TickScheduler(this);
+        this.chunkOccupancy = new ChunkOccupancy(this);
+        this.modificationTracker = new ChunkModificationTracker(this);
+        this.chunkPipeline = new ChunkPipeline(this);
         this.chuckOptimizer = new ChuckLoadOptimizated(this);
         this.chuckPreloadOptimizer = new ChuckPreloadOptimizated(this);
+        this.chunkHeatmap = new ChunkHeatmap(this);
+        this.joinWarmup = new JoinWarmup(this);
+        this.chunkPregenerator = new ChunkPregenerator(this);
+        this.explorationThrottle = new ExplorationThrottle(this);
+        this.chunkManager = new ChunkManager(this);
         this.packetOptimizer = new PacketsReceiveOptimizated(this);
         this.commandHandler = new CMD(this);
 
@@ -44,9 +71,33 @@ public class EternalOptimization extends JavaPlugin {
         if (chuckPreloadOptimizer != null) {
             chuckPreloadOptimizer.disable();
         }
+        if (chunkHeatmap != null) {
+            chunkHeatmap.disable();
+        }
+        if (joinWarmup != null) {
+            joinWarmup.disable();
+        }
+        if (chunkPregenerator != null) {
+            chunkPregenerator.disable();
+        }
+        if (explorationThrottle != null) {
+            explorationThrottle.disable();
+        }
+        if (chunkManager != null) {
+            chunkManager.disable();
+        }
         if (packetOptimizer != null) {
             packetOptimizer.disable();
         }
+        if (tickScheduler != null) {
+            tickScheduler.disable();
+        }
+        if (chunkOccupancy != null) {
+            chunkOccupancy.disable();
+        }
+        if (modificationTracker != null) {
+            modificationTracker.disable();
+        }
         if (performanceMonitor != null) {
             performanceMonitor.stopMonitoring();
         }
@@ -62,6 +113,22 @@ public class EternalOptimization extends JavaPlugin {
         }
     }
 
+    public TickScheduler getTickScheduler() {
+        return tickScheduler;
+    }
+
+    public ChunkOccupancy getChunkOccupancy() {
+        return chunkOccupancy;
+    }
+
+    public ChunkModificationTracker getModificationTracker() {
+        return modificationTracker;
+    }
+
+    public ChunkPipeline getChunkPipeline() {
+        return chunkPipeline;
+    }
+
     public ChuckLoadOptimizated getChuckOptimizer() {
         return chuckOptimizer;
     }
@@ -70,6 +137,26 @@ public class EternalOptimization extends JavaPlugin {
         return chuckPreloadOptimizer;
     }
 
+    public ChunkHeatmap getChunkHeatmap() {
+        return chunkHeatmap;
+    }
+
+    public JoinWarmup getJoinWarmup() {
+        return joinWarmup;
+    }
+
+    public ChunkPregenerator getChunkPregenerator() {
+        return chunkPregenerator;
+    }
+
+    public ExplorationThrottle getExplorationThrottle() {
+        return explorationThrottle;
+    }
+
+    public ChunkManager getChunkManager() {
+        return chunkManager;
+    }
+
     public PacketsReceiveOptimizated getPacketOptimizer() {
         return packetOptimizer;
     }
@@ -0,0 +1,238 @@
+package eternalpolar.spigot.eternaloptimization.Module.Chuck;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.Model.ChunkLoadedA;
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.Model.ChunkLoadedC;
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.Model.ChunkLoadedD;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChuckLoadOptimizated;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChuckPreloadOptimizated;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChunkOccupancy;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.ChunkAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the strategies configured in functions/chuck.yml against one shared
+ * per-world load-time table, ticking them together once per second. Preloaded
+ * chunks count as in use, and evictions feed ChuckLoadOptimizated's thrash
+ * statistics and hysteresis, so both unloaders agree on what to keep.
+ */
+public class ChunkManager implements Listener {
+
+    private final EternalOptimization plugin;
+    private final ChunkOccupancy occupancy;
+    private final TickScheduler.Lane lane;
+    private final WorldChunkTables chunkLoadTimes = new WorldChunkTables();
+    private final List<ChunkOptimizationStrategy> strategies = new ArrayList<>();
+    private FileConfiguration chunkConfig;
+    private BukkitTask tickTask;
+    private boolean enabled;
+    private boolean debugMode;
+    private long totalOptimizedChunks;
+
+    public ChunkManager(EternalOptimization plugin) {
+        this.plugin = plugin;
+        this.occupancy = plugin.getChunkOccupancy();
+        this.lane = plugin.getTickScheduler().lane("chunk-strategy");
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        loadConfig();
+    }
+
+    public void loadConfig() {
+        File configFile = new File(plugin.getDataFolder(), "functions/chuck.yml");
+        if (!configFile.exists()) {
+            plugin.saveResource("functions/chuck.yml", false);
+        }
+        chunkConfig = YamlConfiguration.loadConfiguration(configFile);
+        debugMode = plugin.getConfig().getBoolean("debug", false);
+
+        stopStrategies();
+        chunkLoadTimes.clear();
+
+        enabled = chunkConfig.getBoolean("enabled", true);
+        if (!enabled) return;
+
+        trackLoadedChunks();
+        registerStrategies();
+        tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 20, 20);
+        logDebug("ChunkManager initialized with strategies " + getStrategyNames());
+    }
+
+    private void registerStrategies() {
+        if (chunkConfig.getBoolean("optimization-strategies.strategyA.enabled", true)) {
+            strategies.add(new ChunkLoadedA(this));
+        }
+        if (chunkConfig.getBoolean("optimization-strategies.strategyC.enabled", true)) {
+            strategies.add(new ChunkLoadedC(this));
+        }
+        if (chunkConfig.getBoolean("optimization-strategies.strategyD.enabled", true)) {
+            strategies.add(new ChunkLoadedD(this));
+        }
+    }
+
+    private void stopStrategies() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        for (ChunkOptimizationStrategy strategy : strategies) {
+            strategy.onDisable();
+        }
+        strategies.clear();
+    }
+
+    private void trackLoadedChunks() {
+        long now = System.currentTimeMillis();
+        for (World world : Bukkit.getWorlds()) {
+            ChunkTable loadTimes = chunkLoadTimes.getOrCreate(WorldIndex.of(world));
+            for (Chunk chunk : world.getLoadedChunks()) {
+                loadTimes.put(getChunkKey(chunk), now);
+            }
+        }
+    }
+
+    private void tick() {
+        for (int i = 0; i < strategies.size(); i++) {
+            strategies.get(i).tick();
+        }
+    }
+
+    @EventHandler
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (!enabled) return;
+
+        Chunk chunk = event.getChunk();
+        chunkLoadTimes.getOrCreate(WorldIndex.of(chunk.getWorld())).put(getChunkKey(chunk), System.currentTimeMillis());
+        for (int i = 0; i < strategies.size(); i++) {
+            strategies.get(i).onChunkLoad(event);
+        }
+    }
+
+    @EventHandler
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        if (!enabled) return;
+
+        Chunk chunk = event.getChunk();
+        ChunkTable loadTimes = chunkLoadTimes.get(WorldIndex.of(chunk.getWorld()));
+        if (loadTimes != null) {
+            loadTimes.remove(getChunkKey(chunk));
+        }
+        for (int i = 0; i < strategies.size(); i++) {
+            strategies.get(i).onChunkUnload(event);
+        }
+    }
+
+    public boolean unloadChunk(World world, int worldIndex, long chunkKey) {
+        int x = ChunkTable.keyX(chunkKey);
+        int z = ChunkTable.keyZ(chunkKey);
+        ChunkTable loadTimes = chunkLoadTimes.get(worldIndex);
+
+        if (!world.isChunkLoaded(x, z)) {
+            if (loadTimes != null) {
+                loadTimes.remove(chunkKey);
+            }
+            return false;
+        }
+
+        Chunk chunk = world.getChunkAt(x, z);
+        if (isChunkInUse(worldIndex, chunk) || !plugin.getModificationTracker().unload(worldIndex, chunk)) return false;
+
+        if (loadTimes != null) {
+            loadTimes.remove(chunkKey);
+        }
+        ChuckLoadOptimizated loader = plugin.getChuckOptimizer();
+        if (loader != null) {
+            // a quick reload of this chunk then counts as thrash and holds its area longer
+            loader.recordEviction(worldIndex, chunkKey);
+        }
+        totalOptimizedChunks++;
+        return true;
+    }
+
+    public boolean isChunkInUse(int worldIndex, Chunk chunk) {
+        long chunkKey = getChunkKey(chunk);
+        if (occupancy.isOccupied(worldIndex, chunkKey) || ChunkAccess.isForceLoaded(chunk)) return true;
+
+        // preloads, corridors and warmups are released by the preloader once they expire
+        ChuckPreloadOptimizated preloader = plugin.getChuckPreloadOptimizer();
+        return preloader != null && preloader.isPreloaded(worldIndex, chunkKey);
+    }
+
+    /** The unload delay of the chunk's area, stretched by ChuckLoadOptimizated's thrash hysteresis. */
+    public long extendUnloadDelay(int worldIndex, long chunkKey, long delayMillis, long now) {
+        ChuckLoadOptimizated loader = plugin.getChuckOptimizer();
+        return loader != null ? loader.extendUnloadDelay(worldIndex, chunkKey, delayMillis, now) : delayMillis;
+    }
+
+    public ChunkTable getLoadTimes(int worldIndex) {
+        return chunkLoadTimes.get(worldIndex);
+    }
+
+    public long getChunkKey(Chunk chunk) {
+        return ChunkTable.key(chunk.getX(), chunk.getZ());
+    }
+
+    public void logDebug(String message) {
+        if (debugMode) {
+            plugin.getLogger().info("[Chunk-Debug] " + message);
+        }
+    }
+
+    public List<String> getStrategyNames() {
+        List<String> names = new ArrayList<>();
+        for (ChunkOptimizationStrategy strategy : strategies) {
+            names.add(strategy.getName());
+        }
+        return names;
+    }
+
+    public FileConfiguration getConfig() {
+        return chunkConfig;
+    }
+
+    public EternalOptimization getPlugin() {
+        return plugin;
+    }
+
+    public TickScheduler.Lane getLane() {
+        return lane;
+    }
+
+    public ChunkOccupancy getOccupancy() {
+        return occupancy;
+    }
+
+    public boolean isDebugMode() {
+        return debugMode;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getTotalOptimizedChunks() {
+        return totalOptimizedChunks;
+    }
+
+    public void disable() {
+        stopStrategies();
+        chunkLoadTimes.clear();
+        enabled = false;
+    }
+}
\ No newline at end of file
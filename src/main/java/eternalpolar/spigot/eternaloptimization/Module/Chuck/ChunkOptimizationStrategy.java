@@ -0,0 +1,17 @@
+package eternalpolar.spigot.eternaloptimization.Module.Chuck;
+
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+public interface ChunkOptimizationStrategy {
+
+    String getName();
+
+    void onChunkLoad(ChunkLoadEvent event);
+
+    void onChunkUnload(ChunkUnloadEvent event);
+
+    void tick();
+
+    void onDisable();
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+package eternalpolar.spigot.eternaloptimization.Module.Chuck.Model;
+
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.ChunkManager;
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.ChunkOptimizationStrategy;
+import eternalpolar.spigot.eternaloptimization.Module.Load.Eviction.EvictionPolicy;
+import eternalpolar.spigot.eternaloptimization.Module.Load.Eviction.FifoEvictionPolicy;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.Arrays;
+
+/**
+ * Strategy A: keeps each world under its loaded-chunk budget by unloading the
+ * oldest chunks that have been loaded for at least unload-delay-ticks. Load times
+ * are kept in a per-world FIFO eviction heap, so a pass costs O(k log n) for k
+ * victims instead of sorting every loaded chunk.
+ */
+public class ChunkLoadedA implements ChunkOptimizationStrategy {
+
+    private final ChunkManager chunkManager;
+    private final int defaultMaxLoadedChunks;
+    private final long unloadDelayMillis;
+    private int[] maxLoadedChunks = new int[0];
+    private FifoEvictionPolicy[] oldest = new FifoEvictionPolicy[0];
+    private int pendingWorlds;
+
+    public ChunkLoadedA(ChunkManager chunkManager) {
+        this.chunkManager = chunkManager;
+        FileConfiguration config = chunkManager.getConfig();
+        this.defaultMaxLoadedChunks = config.getInt("optimization-strategies.strategyA.max-loaded-chunks", 500);
+        this.unloadDelayMillis = config.getInt("optimization-strategies.strategyA.unload-delay-ticks", 600) * 50L;
+
+        int worldCount = WorldIndex.size();
+        for (int worldIndex = 0; worldIndex < worldCount; worldIndex++) {
+            ChunkTable loadTimes = chunkManager.getLoadTimes(worldIndex);
+            if (loadTimes != null) {
+                FifoEvictionPolicy heap = heap(worldIndex);
+                loadTimes.forEach((chunkKey, loadTime) -> heap.onLoad(chunkKey, loadTime, 1));
+            }
+        }
+        chunkManager.logDebug("ChunkLoadedA initialized - Max chunks: " + defaultMaxLoadedChunks + ", Unload delay: " + unloadDelayMillis / 50 + " ticks");
+    }
+
+    @Override
+    public String getName() {
+        return "A";
+    }
+
+    @Override
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        heap(WorldIndex.of(chunk.getWorld())).onLoad(chunkManager.getChunkKey(chunk), System.currentTimeMillis(), 1);
+    }
+
+    @Override
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        int worldIndex = WorldIndex.of(chunk.getWorld());
+        if (worldIndex < oldest.length && oldest[worldIndex] != null) {
+            oldest[worldIndex].onRemove(chunkManager.getChunkKey(chunk));
+        }
+    }
+
+    @Override
+    public void tick() {
+        if (pendingWorlds > 0) return;
+
+        int worldCount = WorldIndex.size();
+        for (int worldIndex = 0; worldIndex < worldCount; worldIndex++) {
+            World world = WorldIndex.get(worldIndex);
+            ChunkTable loadTimes = chunkManager.getLoadTimes(worldIndex);
+            if (world == null || loadTimes == null) continue;
+
+            int excess = loadTimes.size() - getMaxLoadedChunks(worldIndex, world);
+            if (excess > 0) {
+                pendingWorlds++;
+                chunkManager.getLane().submit(TickScheduler.PRIORITY_NORMAL, 20, new Eviction(world, worldIndex, loadTimes, excess));
+            }
+        }
+    }
+
+    private FifoEvictionPolicy heap(int worldIndex) {
+        if (worldIndex >= oldest.length) {
+            oldest = Arrays.copyOf(oldest, Math.max(worldIndex + 1, WorldIndex.size()));
+        }
+        if (oldest[worldIndex] == null) {
+            oldest[worldIndex] = new FifoEvictionPolicy();
+        }
+        return oldest[worldIndex];
+    }
+
+    private int getMaxLoadedChunks(int worldIndex, World world) {
+        if (worldIndex >= maxLoadedChunks.length) {
+            int[] grown = new int[WorldIndex.size()];
+            System.arraycopy(maxLoadedChunks, 0, grown, 0, maxLoadedChunks.length);
+            for (int i = maxLoadedChunks.length; i < grown.length; i++) {
+                grown[i] = -1;
+            }
+            maxLoadedChunks = grown;
+        }
+        if (maxLoadedChunks[worldIndex] < 0) {
+            maxLoadedChunks[worldIndex] = chunkManager.getConfig().getInt(
+                    "world-specific." + world.getName() + ".max-loaded-chunks", defaultMaxLoadedChunks);
+        }
+        return maxLoadedChunks[worldIndex];
+    }
+
+    @Override
+    public void onDisable() {
+        maxLoadedChunks = new int[0];
+        oldest = new FifoEvictionPolicy[0];
+    }
+
+    private class Eviction implements TickScheduler.Work {
+        private final World world;
+        private final int worldIndex;
+        private final ChunkTable loadTimes;
+        private final int excess;
+        private final FifoEvictionPolicy heap;
+        private long[] skippedKeys = new long[16];
+        private long[] skippedTimes = new long[16];
+        private int skipped;
+        private int unloaded;
+
+        Eviction(World world, int worldIndex, ChunkTable loadTimes, int excess) {
+            this.world = world;
+            this.worldIndex = worldIndex;
+            this.loadTimes = loadTimes;
+            this.excess = excess;
+            this.heap = heap(worldIndex);
+        }
+
+        @Override
+        public boolean run(long deadlineNanos) {
+            boolean done = true;
+            try {
+                long now = System.currentTimeMillis();
+                while (unloaded < excess) {
+                    long chunkKey = heap.nextVictim();
+                    if (chunkKey == EvictionPolicy.NO_VICTIM) break;
+                    long loadTime = heap.lastVictimPriority();
+
+                    // oldest first: once one is too young, every later one is too
+                    if (now - loadTime < unloadDelayMillis) {
+                        skip(chunkKey, loadTime);
+                        break;
+                    }
+                    if (now - loadTime >= chunkManager.extendUnloadDelay(worldIndex, chunkKey, unloadDelayMillis, now)
+                            && chunkManager.unloadChunk(world, worldIndex, chunkKey)) {
+                        unloaded++;
+                    } else {
+                        skip(chunkKey, loadTime);
+                    }
+                    if (unloaded < excess && System.nanoTime() >= deadlineNanos) {
+                        done = false;
+                        return false;
+                    }
+                }
+                return true;
+            } finally {
+                // also on failure, or the skipped chunks and this world's pass would be lost for good
+                if (done) {
+                    finish();
+                }
+            }
+        }
+
+        private void finish() {
+            for (int i = 0; i < skipped; i++) {
+                if (loadTimes.containsKey(skippedKeys[i])) {
+                    heap.retain(skippedKeys[i], skippedTimes[i]);
+                }
+            }
+            pendingWorlds--;
+            if (unloaded > 0) {
+                chunkManager.logDebug("Strategy A unloaded " + unloaded + " chunks in " + world.getName());
+            }
+        }
+
+        private void skip(long chunkKey, long loadTime) {
+            if (skipped == skippedKeys.length) {
+                skippedKeys = Arrays.copyOf(skippedKeys, skipped << 1);
+                skippedTimes = Arrays.copyOf(skippedTimes, skipped << 1);
+            }
+            skippedKeys[skipped] = chunkKey;
+            skippedTimes[skipped++] = loadTime;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package eternalpolar.spigot.eternaloptimization.Module.Chuck.Model;
+
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.ChunkManager;
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.ChunkOptimizationStrategy;
+import eternalpolar.spigot.eternaloptimization.Module.Load.ChuckPreloadOptimizated;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.WorldAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+/**
+ * Strategy C: when a player crosses a chunk border, requests the missing chunks
+ * within preload-radius. They go through the chunk preloader's queue when it runs,
+ * so they share its de-duplication, budget and retention, and chunks it already
+ * preloaded or queued for a player stay that player's; otherwise, with
+ * async-loading on Paper, through getChunkAtAsync instead of inside the move event.
+ */
+public class ChunkLoadedC implements ChunkOptimizationStrategy, Listener {
+
+    private static final long REQUEST_TIMEOUT_MILLIS = 10000L;
+
+    private final ChunkManager chunkManager;
+    private final boolean asyncLoading;
+    private final int preloadRadius;
+    private final WorldChunkTables requested = new WorldChunkTables();
+
+    public ChunkLoadedC(ChunkManager chunkManager) {
+        this.chunkManager = chunkManager;
+        FileConfiguration config = chunkManager.getConfig();
+        this.asyncLoading = config.getBoolean("optimization-strategies.strategyC.async-loading", true);
+        this.preloadRadius = Math.max(0, config.getInt("optimization-strategies.strategyC.preload-radius", 2));
+        Bukkit.getPluginManager().registerEvents(this, chunkManager.getPlugin());
+        chunkManager.logDebug("ChunkLoadedC initialized - Async: " + asyncLoading + ", Radius: " + preloadRadius);
+    }
+
+    @Override
+    public String getName() {
+        return "C";
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to == null || to.getWorld() == null) return;
+        if (from.getWorld() == to.getWorld()
+                && from.getBlockX() >> 4 == to.getBlockX() >> 4
+                && from.getBlockZ() >> 4 == to.getBlockZ() >> 4) return;
+
+        preloadChunksAround(to);
+    }
+
+    private void preloadChunksAround(Location location) {
+        World world = location.getWorld();
+        int centerX = location.getBlockX() >> 4;
+        int centerZ = location.getBlockZ() >> 4;
+        ChuckPreloadOptimizated preloader = chunkManager.getPlugin().getChuckPreloadOptimizer();
+        if (preloader != null && preloader.queueWarmup(world, centerX, centerZ, preloadRadius)) return;
+
+        ChunkTable pending = requested.getOrCreate(WorldIndex.of(world));
+        long now = System.currentTimeMillis();
+
+        for (int dx = -preloadRadius; dx <= preloadRadius; dx++) {
+            for (int dz = -preloadRadius; dz <= preloadRadius; dz++) {
+                int x = centerX + dx;
+                int z = centerZ + dz;
+                if (world.isChunkLoaded(x, z)) continue;
+                if (pending.putIfAbsent(ChunkTable.key(x, z), now) != ChunkTable.NO_VALUE) continue;
+
+                if (asyncLoading && WorldAccess.supportsAsyncChunkLoading()) {
+                    WorldAccess.getChunkAtAsync(world, x, z, true);
+                } else {
+                    world.loadChunk(x, z);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        ChunkTable pending = requested.get(WorldIndex.of(chunk.getWorld()));
+        if (pending != null) {
+            pending.remove(ChunkTable.key(chunk.getX(), chunk.getZ()));
+        }
+    }
+
+    @Override
+    public void onChunkUnload(ChunkUnloadEvent event) {
+    }
+
+    @Override
+    public void tick() {
+        // failed async loads never produce a load event
+        long expiry = System.currentTimeMillis() - REQUEST_TIMEOUT_MILLIS;
+        int worldCount = WorldIndex.size();
+        for (int worldIndex = 0; worldIndex < worldCount; worldIndex++) {
+            ChunkTable pending = requested.get(worldIndex);
+            if (pending != null && !pending.isEmpty()) {
+                pending.removeIf((chunkKey, requestTime) -> requestTime < expiry);
+            }
+        }
+    }
+
+    @Override
+    public void onDisable() {
+        HandlerList.unregisterAll(this);
+        requested.clear();
+    }
+}
\ No newline at end of file
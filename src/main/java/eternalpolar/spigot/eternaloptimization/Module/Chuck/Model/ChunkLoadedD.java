@@ -0,0 +1,207 @@
+package eternalpolar.spigot.eternaloptimization.Module.Chuck.Model;
+
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.ChunkManager;
+import eternalpolar.spigot.eternaloptimization.Module.Chuck.ChunkOptimizationStrategy;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.List;
+
+/**
+ * Strategy D: per-world unload delays weighted by entity density. Crowded chunks
+ * are kept for high-entity-unload-delay, empty ones go after low-entity-unload-delay,
+ * and chunks within priority-radius of a player wait at least player-unload-delay.
+ */
+public class ChunkLoadedD implements ChunkOptimizationStrategy {
+
+    private final ChunkManager chunkManager;
+    private final WorldChunkTables nextCheck = new WorldChunkTables();
+    private WorldConfig[] worldConfigs = new WorldConfig[0];
+    private int pendingWorlds;
+
+    public ChunkLoadedD(ChunkManager chunkManager) {
+        this.chunkManager = chunkManager;
+        chunkManager.logDebug("ChunkLoadedD initialized");
+    }
+
+    @Override
+    public String getName() {
+        return "D";
+    }
+
+    @Override
+    public void onChunkLoad(ChunkLoadEvent event) {
+    }
+
+    @Override
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        ChunkTable checks = nextCheck.get(WorldIndex.of(chunk.getWorld()));
+        if (checks != null) {
+            checks.remove(ChunkTable.key(chunk.getX(), chunk.getZ()));
+        }
+    }
+
+    @Override
+    public void tick() {
+        if (pendingWorlds > 0) return;
+
+        long now = System.currentTimeMillis();
+        int worldCount = WorldIndex.size();
+
+        for (int worldIndex = 0; worldIndex < worldCount; worldIndex++) {
+            World world = WorldIndex.get(worldIndex);
+            ChunkTable loadTimes = chunkManager.getLoadTimes(worldIndex);
+            if (world == null || loadTimes == null || loadTimes.isEmpty()) continue;
+
+            checkChunkUnloads(world, worldIndex, loadTimes, getWorldConfig(worldIndex, world), now);
+        }
+    }
+
+    private void checkChunkUnloads(World world, int worldIndex, ChunkTable loadTimes, WorldConfig config, long now) {
+        long minDelayMillis = config.minUnloadDelay() * 50L;
+        long[] keys = new long[loadTimes.size()];
+        long[] times = new long[keys.length];
+        int count = loadTimes.copyTo(keys, times);
+
+        ChunkTable checks = nextCheck.getOrCreate(worldIndex);
+        int candidates = 0;
+        for (int i = 0; i < count; i++) {
+            if (now - times[i] >= minDelayMillis && checks.getOrDefault(keys[i], 0L) <= now) {
+                keys[candidates] = keys[i];
+                times[candidates++] = times[i];
+            }
+        }
+        if (candidates == 0) return;
+
+        ChunkTable priorityChunks = getPriorityChunks(world, config.priorityRadius);
+        int candidateCount = candidates;
+        pendingWorlds++;
+        chunkManager.getLane().submit(TickScheduler.PRIORITY_NORMAL, 20, new TickScheduler.Work() {
+            private int next;
+            private int unloaded;
+
+            @Override
+            public boolean run(long deadlineNanos) {
+                while (next < candidateCount) {
+                    int i = next++;
+                    if (checkChunk(world, worldIndex, keys[i], times[i], config, checks, priorityChunks, now)) {
+                        unloaded++;
+                    }
+                    if (next < candidateCount && System.nanoTime() >= deadlineNanos) return false;
+                }
+                pendingWorlds--;
+                if (unloaded > 0) {
+                    chunkManager.logDebug("Strategy D unloaded " + unloaded + " chunks in " + world.getName());
+                }
+                return true;
+            }
+        });
+    }
+
+    private boolean checkChunk(World world, int worldIndex, long chunkKey, long loadTime, WorldConfig config,
+                               ChunkTable checks, ChunkTable priorityChunks, long now) {
+        if (chunkManager.getOccupancy().isOccupied(worldIndex, chunkKey)) return false;
+
+        int x = ChunkTable.keyX(chunkKey);
+        int z = ChunkTable.keyZ(chunkKey);
+        if (!world.isChunkLoaded(x, z)) {
+            chunkManager.unloadChunk(world, worldIndex, chunkKey);
+            return false;
+        }
+
+        int delay = calculateDynamicDelay(config, countEntities(world.getChunkAt(x, z)));
+        if (priorityChunks.containsKey(chunkKey)) {
+            delay = Math.max(delay, config.playerUnloadDelay);
+        }
+
+        long delayMillis = chunkManager.extendUnloadDelay(worldIndex, chunkKey, delay * 50L, now);
+        if (now - loadTime < delayMillis) {
+            checks.put(chunkKey, loadTime + delayMillis);
+        } else if (chunkManager.unloadChunk(world, worldIndex, chunkKey)) {
+            return true;
+        } else {
+            checks.put(chunkKey, now + delayMillis);
+        }
+        return false;
+    }
+
+    private ChunkTable getPriorityChunks(World world, int radius) {
+        List<Player> players = world.getPlayers();
+        int side = 2 * radius + 1;
+        ChunkTable priorityChunks = new ChunkTable(players.size() * side * side);
+        for (Player player : players) {
+            int centerX = player.getLocation().getBlockX() >> 4;
+            int centerZ = player.getLocation().getBlockZ() >> 4;
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    priorityChunks.put(ChunkTable.key(centerX + dx, centerZ + dz), 1);
+                }
+            }
+        }
+        return priorityChunks;
+    }
+
+    private int countEntities(Chunk chunk) {
+        return chunk.getEntities().length;
+    }
+
+    private int calculateDynamicDelay(WorldConfig config, int entityCount) {
+        if (entityCount >= config.highEntityThreshold) return config.highEntityUnloadDelay;
+        if (entityCount <= config.lowEntityThreshold) return config.lowEntityUnloadDelay;
+        return config.baseUnloadDelay;
+    }
+
+    private WorldConfig getWorldConfig(int worldIndex, World world) {
+        if (worldIndex >= worldConfigs.length) {
+            WorldConfig[] grown = new WorldConfig[WorldIndex.size()];
+            System.arraycopy(worldConfigs, 0, grown, 0, worldConfigs.length);
+            worldConfigs = grown;
+        }
+        WorldConfig config = worldConfigs[worldIndex];
+        if (config == null) {
+            config = new WorldConfig(chunkManager.getConfig(), "world-specific." + world.getName() + ".");
+            worldConfigs[worldIndex] = config;
+            chunkManager.logDebug("Loaded config for world: " + world.getName() + ", Priority radius: " + config.priorityRadius);
+        }
+        return config;
+    }
+
+    @Override
+    public void onDisable() {
+        nextCheck.clear();
+        worldConfigs = new WorldConfig[0];
+    }
+
+    private static class WorldConfig {
+        final int baseUnloadDelay;
+        final int playerUnloadDelay;
+        final int highEntityThreshold;
+        final int highEntityUnloadDelay;
+        final int lowEntityThreshold;
+        final int lowEntityUnloadDelay;
+        final int priorityRadius;
+
+        WorldConfig(FileConfiguration config, String path) {
+            baseUnloadDelay = config.getInt(path + "base-unload-delay", 600);
+            playerUnloadDelay = config.getInt(path + "player-unload-delay", 1200);
+            highEntityThreshold = config.getInt(path + "high-entity-threshold", 50);
+            highEntityUnloadDelay = config.getInt(path + "high-entity-unload-delay", 1800);
+            lowEntityThreshold = config.getInt(path + "low-entity-threshold", 10);
+            lowEntityUnloadDelay = config.getInt(path + "low-entity-unload-delay", 300);
+            priorityRadius = Math.max(0, config.getInt(path + "priority-radius", 3));
+        }
+
+        int minUnloadDelay() {
+            return Math.min(baseUnloadDelay, Math.min(lowEntityUnloadDelay, highEntityUnloadDelay));
+        }
+    }
+}
\ No newline at end of file
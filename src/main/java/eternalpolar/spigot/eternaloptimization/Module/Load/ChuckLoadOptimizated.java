@@ -1,42 +1,64 @@
 package eternalpolar.spigot.eternaloptimization.Module.Load;
 
 import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Module.Load.Eviction.EvictionStats;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.ChunkAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.World;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
-import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.world.ChunkLoadEvent;
 import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldSaveEvent;
 
 import java.io.File;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class ChuckLoadOptimizated implements Listener {
 
     private final EternalOptimization plugin;
-    private final Map<String, Map<Long, Long>> chunkLoadTimes = new ConcurrentHashMap<>();
-    private final Map<String, Integer> maxLoadedChunks = new ConcurrentHashMap<>();
-    private final Map<String, Integer> playerUnloadRadius = new ConcurrentHashMap<>();
-    private final Map<String, Integer> baseUnloadDelay = new ConcurrentHashMap<>();
-    private final Map<String, Boolean> worldEnabled = new ConcurrentHashMap<>();
-    private int version;
+    private final ChunkOccupancy occupancy;
+    private final ChunkModificationTracker modifications;
+    private final ChunkBudgetEnforcer budgetEnforcer;
+    private final ChunkBudgetController budgetController;
+    private final UnloadBatcher unloadBatcher;
+    private final ChunkFreezer freezer;
+    private final ChunkPipeline.Job freezeJob;
+    private final ChunkPipeline.Job unloadJob;
+    private final WorldChunkTables chunkLoadTimes = new WorldChunkTables();
+    private final ThrashHysteresis hysteresis = new ThrashHysteresis();
+    private volatile boolean[] worldEnabled = new boolean[0];
+    private volatile int[] maxLoadedChunks = new int[0];
+    private volatile int[] baseUnloadDelay = new int[0];
     private int globalMaxLoaded;
     private int globalRadius;
     private int globalDelay;
+    private String globalEvictionPolicy;
     private boolean globallyEnabled;
+    private boolean unloadBatching;
+    private volatile int freezeAfterTicks;
     private long totalChunksOptimized = 0;
     private long totalChunksLoaded = 0;
 
     public ChuckLoadOptimizated(EternalOptimization plugin) {
         this.plugin = plugin;
+        this.occupancy = plugin.getChunkOccupancy();
+        this.modifications = plugin.getModificationTracker();
+        this.budgetEnforcer = new ChunkBudgetEnforcer(plugin, this);
+        this.budgetController = new ChunkBudgetController(plugin, this);
+        this.unloadBatcher = new UnloadBatcher(plugin, this::unloadIfIdle);
+        this.unloadJob = plugin.getChunkPipeline().newJob(this::decideUnloads, this::applyUnload);
+        this.freezer = new ChunkFreezer(plugin);
+        this.freezeJob = plugin.getChunkPipeline().newJob(this::decideFreezes, this::applyFreeze);
         loadConfig();
         if (globallyEnabled) {
-            detectVersion();
+            trackLoadedChunks();
             Bukkit.getPluginManager().registerEvents(this, plugin);
             startTasks();
         }
@@ -56,59 +78,91 @@ public class ChuckLoadOptimizated implements Listener {
         globalRadius = config.getInt("global-world.player-unload-radius", 3);
         globalDelay = config.getInt("global-world.base-unload-delay", 600);
 
+        globalEvictionPolicy = config.getString("global-world.eviction-policy", "lru");
+        long lfuHalfLifeMillis = config.getLong("lfu-half-life-seconds", 300) * 1000L;
+        long thrashWindowMillis = config.getLong("thrash-window-seconds", 60) * 1000L;
+        hysteresis.configure(config.getBoolean("thrash-hysteresis.enabled", true) ? config.getInt("thrash-hysteresis.max-doublings", 4) : 0,
+                config.getLong("thrash-hysteresis.decay-seconds", 300) * 1000L);
+
+        budgetController.configure(config.getBoolean("adaptive-budget.enabled", false),
+                config.getDouble("adaptive-budget.min-scale", 0.5),
+                config.getDouble("adaptive-budget.max-scale", 1.5),
+                config.getDouble("adaptive-budget.target-mspt", 40.0),
+                config.getDouble("adaptive-budget.target-old-gen-percent", 75.0),
+                config.getDouble("adaptive-budget.dead-band", 0.1),
+                config.getDouble("adaptive-budget.decrease-factor", 0.8),
+                config.getDouble("adaptive-budget.increase-step", 0.05),
+                config.getInt("adaptive-budget.interval-seconds", 5));
+
+        unloadBatching = config.getBoolean("unload-batching.enabled", true);
+        unloadBatcher.configure(config.getInt("unload-batching.max-unloads-per-tick", 8),
+                config.getInt("unload-batching.flush-window-seconds", 10),
+                config.getInt("unload-batching.save-backoff-seconds", 5));
+
+        freezer.configure(config.getBoolean("frozen-tier.enabled", false),
+                config.getBoolean("frozen-tier.freeze-hoppers", true),
+                config.getBoolean("frozen-tier.freeze-spawners", true));
+        freezeAfterTicks = Math.max(1, config.getInt("frozen-tier.freeze-after-ticks", 200));
+
         boolean globalWorldEnabled = config.getBoolean("global-world.enabled", true);
 
-        for (World world : Bukkit.getWorlds()) {
+        List<World> worlds = Bukkit.getWorlds();
+        int worldCount = 0;
+        for (World world : worlds) {
+            worldCount = Math.max(worldCount, WorldIndex.of(world) + 1);
+        }
+
+        boolean[] enabledByWorld = new boolean[worldCount];
+        int[] maxLoadedByWorld = new int[worldCount];
+        int[] radiusByWorld = new int[worldCount];
+        int[] delayByWorld = new int[worldCount];
+        String[] policyByWorld = new String[worldCount];
+
+        for (World world : worlds) {
             String worldName = world.getName();
+            int worldIndex = WorldIndex.of(world);
             boolean enabled = config.getBoolean("world-specific." + worldName + ".enabled", globalWorldEnabled);
 
-            worldEnabled.put(worldName, enabled);
+            enabledByWorld[worldIndex] = enabled;
 
             if (enabled) {
-                maxLoadedChunks.put(worldName, config.getInt("world-specific." + worldName + ".max-loaded-chunks", globalMaxLoaded));
-                playerUnloadRadius.put(worldName, config.getInt("world-specific." + worldName + ".player-unload-radius", globalRadius));
-                baseUnloadDelay.put(worldName, config.getInt("world-specific." + worldName + ".base-unload-delay", globalDelay));
+                maxLoadedByWorld[worldIndex] = config.getInt("world-specific." + worldName + ".max-loaded-chunks", globalMaxLoaded);
+                radiusByWorld[worldIndex] = config.getInt("world-specific." + worldName + ".player-unload-radius", globalRadius);
+                delayByWorld[worldIndex] = config.getInt("world-specific." + worldName + ".base-unload-delay", globalDelay);
+                policyByWorld[worldIndex] = config.getString("world-specific." + worldName + ".eviction-policy", globalEvictionPolicy);
             }
         }
+
+        for (World world : worlds) {
+            int worldIndex = WorldIndex.of(world);
+            occupancy.setRadius(worldIndex, enabledByWorld[worldIndex] ? radiusByWorld[worldIndex] : 0);
+            if (enabledByWorld[worldIndex]) {
+                budgetEnforcer.configure(worldIndex, policyByWorld[worldIndex], lfuHalfLifeMillis, thrashWindowMillis);
+            }
+        }
+
+        maxLoadedChunks = maxLoadedByWorld;
+        baseUnloadDelay = delayByWorld;
+        worldEnabled = enabledByWorld;
     }
 
-    private void detectVersion() {
-        String bukkitVersion = Bukkit.getBukkitVersion();
-        if (bukkitVersion.startsWith("1.8")) {
-            version = 8;
-        } else if (bukkitVersion.startsWith("1.9")) {
-            version = 9;
-        } else if (bukkitVersion.startsWith("1.10")) {
-            version = 10;
-        } else if (bukkitVersion.startsWith("1.11")) {
-            version = 11;
-        } else if (bukkitVersion.startsWith("1.12")) {
-            version = 12;
-        } else if (bukkitVersion.startsWith("1.13")) {
-            version = 13;
-        } else if (bukkitVersion.startsWith("1.14")) {
-            version = 14;
-        } else if (bukkitVersion.startsWith("1.15")) {
-            version = 15;
-        } else if (bukkitVersion.startsWith("1.16")) {
-            version = 16;
-        } else if (bukkitVersion.startsWith("1.17")) {
-            version = 17;
-        } else if (bukkitVersion.startsWith("1.18")) {
-            version = 18;
-        } else if (bukkitVersion.startsWith("1.19")) {
-            version = 19;
-        } else if (bukkitVersion.startsWith("1.20")) {
-            version = 20;
-        } else if (bukkitVersion.startsWith("1.21")) {
-            version = 21;
-        } else {
-            version = 12;
+    private void trackLoadedChunks() {
+        long now = System.currentTimeMillis();
+        for (World world : Bukkit.getWorlds()) {
+            int worldIndex = WorldIndex.of(world);
+            if (!isWorldEnabled(worldIndex)) continue;
+
+            ChunkTable loadTimes = chunkLoadTimes.getOrCreate(worldIndex);
+            for (Chunk chunk : world.getLoadedChunks()) {
+                long chunkKey = getChunkKey(chunk);
+                loadTimes.put(chunkKey, now);
+                budgetEnforcer.onChunkLoaded(worldIndex, chunkKey, now, getEvictionCost(worldIndex, chunk));
+            }
         }
     }
 
     private void startTasks() {
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::checkChunkUnloadsAsync, 40, 40);
+        Bukkit.getScheduler().runTaskTimer(plugin, this::checkChunkUnloads, 40, 40);
     }
 
     @EventHandler
@@ -116,17 +170,20 @@ public class ChuckLoadOptimizated implements Listener {
         if (!globallyEnabled) return;
 
         Chunk chunk = event.getChunk();
-        String worldName = chunk.getWorld().getName();
+        World world = chunk.getWorld();
+        int worldIndex = WorldIndex.of(world);
+        freezer.recover(chunk);
 
-        if (!isWorldEnabled(worldName)) return;
+        if (!isWorldEnabled(worldIndex)) return;
 
         long chunkKey = getChunkKey(chunk);
+        long loadTime = System.currentTimeMillis();
         totalChunksLoaded++;
 
-        chunkLoadTimes.computeIfAbsent(worldName, k -> new ConcurrentHashMap<>())
-                .put(chunkKey, System.currentTimeMillis());
-
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> checkMaxLoadedChunksAsync(chunk.getWorld()));
+        chunkLoadTimes.getOrCreate(worldIndex).put(chunkKey, loadTime);
+        if (budgetEnforcer.onChunkLoaded(worldIndex, chunkKey, loadTime, getEvictionCost(worldIndex, chunk))) {
+            hysteresis.recordThrash(worldIndex, chunkKey, loadTime);
+        }
     }
 
     @EventHandler
@@ -134,161 +191,215 @@ public class ChuckLoadOptimizated implements Listener {
         if (!globallyEnabled) return;
 
         Chunk chunk = event.getChunk();
-        String worldName = chunk.getWorld().getName();
+        int worldIndex = WorldIndex.of(chunk.getWorld());
+        freezer.onChunkUnloaded(chunk, worldIndex);
 
-        if (!isWorldEnabled(worldName)) return;
+        if (!isWorldEnabled(worldIndex)) return;
 
         long chunkKey = getChunkKey(chunk);
-
-        chunkLoadTimes.getOrDefault(worldName, Collections.emptyMap()).remove(chunkKey);
+        ChunkTable loadTimes = chunkLoadTimes.get(worldIndex);
+        if (loadTimes != null) {
+            loadTimes.remove(chunkKey);
+        }
+        budgetEnforcer.onChunkUnloaded(worldIndex, chunkKey);
     }
 
-    private void checkChunkUnloadsAsync() {
-        if (!globallyEnabled) return;
-
-        long currentTime = System.currentTimeMillis();
-        Set<String> processedWorlds = ConcurrentHashMap.newKeySet();
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            World world = player.getWorld();
-            String worldName = world.getName();
-
-            if (!isWorldEnabled(worldName)) continue;
-            if (processedWorlds.contains(worldName)) continue;
-
-            processedWorlds.add(worldName);
-
-            Map<Long, Long> chunkLoadTimes = this.chunkLoadTimes.getOrDefault(worldName, null);
-            int unloadDelay = baseUnloadDelay.getOrDefault(worldName, globalDelay);
-            int radius = playerUnloadRadius.getOrDefault(worldName, globalRadius);
+    @EventHandler
+    public void onWorldSave(WorldSaveEvent event) {
+        unloadBatcher.onWorldSaved(WorldIndex.of(event.getWorld()));
+    }
 
-            if (chunkLoadTimes == null) continue;
+    private int getEvictionCost(int worldIndex, Chunk chunk) {
+        if (!budgetEnforcer.needsCost(worldIndex)) return 0;
+        // entities and tile entities are what make a chunk expensive to bring back
+        return 1 + chunk.getEntities().length + 2 * chunk.getTileEntities().length;
+    }
 
-            Set<Long> playerChunks = new HashSet<>();
-            for (Player p : Bukkit.getOnlinePlayers()) {
-                if (p.getWorld().equals(world)) {
-                    int x = p.getLocation().getBlockX() >> 4;
-                    int z = p.getLocation().getBlockZ() >> 4;
+    private void checkChunkUnloads() {
+        if (!globallyEnabled) return;
 
-                    for (int dx = -radius; dx <= radius; dx++) {
-                        for (int dz = -radius; dz <= radius; dz++) {
-                            playerChunks.add(getChunkKey(x + dx, z + dz));
-                        }
-                    }
+        long now = System.currentTimeMillis();
+        int worldCount = WorldIndex.size();
+        for (int worldIndex = 0; worldIndex < worldCount; worldIndex++) {
+            hysteresis.prune(worldIndex, now);
+            if (!isWorldEnabled(worldIndex) || !occupancy.hasPlayers(worldIndex)) continue;
+
+            World world = WorldIndex.get(worldIndex);
+            ChunkTable loadTimes = chunkLoadTimes.get(worldIndex);
+            if (world != null && loadTimes != null) {
+                unloadJob.submit(world, worldIndex, loadTimes);
+                if (freezer.isEnabled()) {
+                    freezeJob.submit(world, worldIndex, loadTimes);
                 }
             }
+        }
+    }
 
-            List<Long> chunksToUnload = new ArrayList<>();
-            for (Map.Entry<Long, Long> entry : chunkLoadTimes.entrySet()) {
-                long chunkKey = entry.getKey();
-                long loadTime = entry.getValue();
+    private int decideUnloads(ChunkSnapshot snapshot, long[] out) {
+        if (!snapshot.hasPlayers()) return 0;
 
-                if (!playerChunks.contains(chunkKey) && currentTime - loadTime > unloadDelay * 50) {
-                    chunksToUnload.add(chunkKey);
-                }
+        long unloadDelayMillis = getBaseUnloadDelay(snapshot.worldIndex) * 50L;
+
+        int count = 0;
+        for (int i = 0; i < snapshot.chunkCount; i++) {
+            long chunkKey = snapshot.chunkKeys[i];
+            long unusedMillis = snapshot.capturedAt - snapshot.chunkValues[i];
+            if (unusedMillis > unloadDelayMillis
+                    && !snapshot.isForceLoaded(i)
+                    && !occupancy.isOccupied(snapshot.worldIndex, chunkKey)
+                    && unusedMillis > hysteresis.extend(snapshot.worldIndex, chunkKey, unloadDelayMillis, snapshot.capturedAt)) {
+                out[count++] = chunkKey;
             }
+        }
+        return count;
+    }
 
-            if (!chunksToUnload.isEmpty()) {
-                totalChunksOptimized += chunksToUnload.size();
-                Bukkit.getScheduler().runTask(plugin, () -> {
-                    for (long chunkKey : chunksToUnload) {
-                        int x = (int) (chunkKey >> 32);
-                        int z = (int) (chunkKey & 0xFFFFFFFFL);
-
-                        Chunk chunk = world.getChunkAt(x, z);
-                        if (chunk.isLoaded() && !isChunkInUse(chunk)) {
-                            chunk.unload(true);
-                            chunkLoadTimes.remove(chunkKey);
-                        }
-                    }
-                });
+    // Freezes chunks idle long enough to freeze but not yet due for unloading.
+    private int decideFreezes(ChunkSnapshot snapshot, long[] out) {
+        if (!snapshot.hasPlayers()) return 0;
+
+        long freezeDelayMillis = freezeAfterTicks * 50L;
+        long unloadDelayMillis = getBaseUnloadDelay(snapshot.worldIndex) * 50L;
+
+        int count = 0;
+        for (int i = 0; i < snapshot.chunkCount; i++) {
+            long chunkKey = snapshot.chunkKeys[i];
+            long unusedMillis = snapshot.capturedAt - snapshot.chunkValues[i];
+            if (unusedMillis > freezeDelayMillis
+                    && !snapshot.isForceLoaded(i)
+                    && !occupancy.isOccupied(snapshot.worldIndex, chunkKey)
+                    && !freezer.isFrozen(snapshot.worldIndex, chunkKey)
+                    && unusedMillis <= hysteresis.extend(snapshot.worldIndex, chunkKey, unloadDelayMillis, snapshot.capturedAt)) {
+                out[count++] = chunkKey;
             }
         }
+        return count;
     }
 
-    private void checkMaxLoadedChunksAsync(World world) {
-        if (!globallyEnabled) return;
+    private void applyFreeze(World world, int worldIndex, long chunkKey) {
+        if (occupancy.isOccupied(worldIndex, chunkKey)) return;
+        freezer.freeze(world, worldIndex, chunkKey);
+    }
 
-        String worldName = world.getName();
+    private void applyUnload(World world, int worldIndex, long chunkKey) {
+        if (unloadBatching) {
+            // saved later, together with the other candidates of the same region file
+            unloadBatcher.enqueue(worldIndex, chunkKey);
+        } else {
+            unloadIfIdle(world, worldIndex, chunkKey);
+        }
+    }
 
-        if (!isWorldEnabled(worldName)) return;
+    private boolean unloadIfIdle(World world, int worldIndex, long chunkKey) {
+        ChunkTable loadTimes = chunkLoadTimes.get(worldIndex);
+        if (loadTimes == null) return false;
 
-        int maxLoaded = maxLoadedChunks.getOrDefault(worldName, globalMaxLoaded);
+        int x = ChunkTable.keyX(chunkKey);
+        int z = ChunkTable.keyZ(chunkKey);
+        if (!world.isChunkLoaded(x, z)) {
+            loadTimes.remove(chunkKey);
+            return false;
+        }
 
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            Chunk[] loadedChunks = world.getLoadedChunks();
-            if (loadedChunks.length <= maxLoaded) return;
+        // the world kept ticking since the snapshot: skip chunks a player reached or that were reloaded
+        long loadTime = loadTimes.get(chunkKey);
+        long now = System.currentTimeMillis();
+        if (loadTime == ChunkTable.NO_VALUE
+                || now - loadTime <= hysteresis.extend(worldIndex, chunkKey, getBaseUnloadDelay(worldIndex) * 50L, now)
+                || occupancy.isOccupied(worldIndex, chunkKey)) return false;
 
-            int chunksToUnload = loadedChunks.length - maxLoaded;
-            Map<Long, Long> chunkLoadTimes = this.chunkLoadTimes.getOrDefault(worldName, null);
+        Chunk chunk = world.getChunkAt(x, z);
+        if (isChunkInUse(chunk) || !modifications.unload(worldIndex, chunk)) return false;
 
-            if (chunkLoadTimes == null) return;
+        loadTimes.remove(chunkKey);
+        budgetEnforcer.recordEviction(worldIndex, chunkKey);
+        totalChunksOptimized++;
+        return true;
+    }
 
-            List<Map.Entry<Long, Long>> chunksWithTimes = new ArrayList<>(chunkLoadTimes.entrySet());
-            chunksWithTimes.sort(Map.Entry.comparingByValue());
+    private int getBaseUnloadDelay(int worldIndex) {
+        int[] delays = baseUnloadDelay;
+        return (int) Math.round((worldIndex < delays.length ? delays[worldIndex] : globalDelay) * budgetController.getScale());
+    }
 
-            int radius = playerUnloadRadius.getOrDefault(worldName, globalRadius);
-            Set<Long> playerChunks = new HashSet<>();
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                if (player.getWorld().equals(world)) {
-                    int x = player.getLocation().getBlockX() >> 4;
-                    int z = player.getLocation().getBlockZ() >> 4;
+    ChunkTable getLoadTimes(int worldIndex) {
+        return chunkLoadTimes.get(worldIndex);
+    }
 
-                    for (int dx = -radius; dx <= radius; dx++) {
-                        for (int dz = -radius; dz <= radius; dz++) {
-                            playerChunks.add(getChunkKey(x + dx, z + dz));
-                        }
-                    }
-                }
+    int getMaxLoadedChunks(int worldIndex) {
+        int[] maxLoaded = maxLoadedChunks;
+        return (int) Math.round((worldIndex < maxLoaded.length ? maxLoaded[worldIndex] : globalMaxLoaded) * budgetController.getScale());
+    }
+
+    void requestBudgetChecks() {
+        int worldCount = WorldIndex.size();
+        for (int worldIndex = 0; worldIndex < worldCount; worldIndex++) {
+            if (isWorldEnabled(worldIndex)) {
+                budgetEnforcer.requestCheck(worldIndex);
             }
+        }
+    }
 
-            int unloadedCount = 0;
-            for (Map.Entry<Long, Long> entry : chunksWithTimes) {
-                if (unloadedCount >= chunksToUnload) break;
+    void addChunksOptimized(int count) {
+        totalChunksOptimized += count;
+    }
 
-                long chunkKey = entry.getKey();
+    boolean isChunkInUse(Chunk chunk) {
+        return ChunkAccess.isForceLoaded(chunk);
+    }
 
-                if (playerChunks.contains(chunkKey)) continue;
+    private boolean isWorldEnabled(int worldIndex) {
+        boolean[] enabled = worldEnabled;
+        return worldIndex < enabled.length && enabled[worldIndex];
+    }
 
-                int x = (int) (chunkKey >> 32);
-                int z = (int) (chunkKey & 0xFFFFFFFFL);
+    public long getChunkKey(Chunk chunk) {
+        return getChunkKey(chunk.getX(), chunk.getZ());
+    }
 
-                Chunk chunk = world.getChunkAt(x, z);
-                if (chunk.isLoaded() && !isChunkInUse(chunk)) {
-                    chunk.unload(true);
-                    chunkLoadTimes.remove(chunkKey);
-                    unloadedCount++;
-                }
-            }
-            totalChunksOptimized += unloadedCount;
-        });
+    public long getChunkKey(int x, int z) {
+        return ChunkTable.key(x, z);
     }
 
-    private boolean isChunkInUse(Chunk chunk) {
-        if (version >= 13) {
-            try {
-                return (boolean) Chunk.class.getMethod("isForceLoaded").invoke(chunk);
-            } catch (Exception e) {
-                return false;
-            }
-        }
-        return false;
+    public String getEvictionPolicyName(World world) {
+        return budgetEnforcer.getPolicyName(WorldIndex.of(world));
     }
 
-    private boolean isWorldEnabled(String worldName) {
-        return worldEnabled.getOrDefault(worldName, false);
+    public EvictionStats getEvictionStats(World world) {
+        return budgetEnforcer.getStats(WorldIndex.of(world));
     }
 
-    public long getChunkKey(Chunk chunk) {
-        return getChunkKey(chunk.getX(), chunk.getZ());
+    public int getMaxLoadedChunks(World world) {
+        return getMaxLoadedChunks(WorldIndex.of(world));
     }
 
-    public long getChunkKey(int x, int z) {
-        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    public ChunkFreezer getFreezer() {
+        return freezer;
+    }
+
+    public int getFrozenChunks(World world) {
+        return freezer.getFrozenChunks(WorldIndex.of(world));
+    }
+
+    public UnloadBatcher getUnloadBatcher() {
+        return unloadBatching ? unloadBatcher : null;
+    }
+
+    public ChunkBudgetController getBudgetController() {
+        return budgetController;
+    }
+
+    /** Lets the chuck.yml strategies feed the thrash statistics of their evictions. */
+    public void recordEviction(int worldIndex, long chunkKey) {
+        budgetEnforcer.recordEviction(worldIndex, chunkKey);
+    }
+
+    public long extendUnloadDelay(int worldIndex, long chunkKey, long delayMillis, long now) {
+        return hysteresis.extend(worldIndex, chunkKey, delayMillis, now);
     }
 
-    public int getVersion() {
-        return version;
+    public int getExtendedUnloadAreas(World world) {
+        return hysteresis.getExtendedAreas(WorldIndex.of(world));
     }
 
     public boolean isEnabled() {
@@ -296,8 +407,13 @@ public class ChuckLoadOptimizated implements Listener {
     }
 
     public void disable() {
+        budgetController.stop();
+        unloadBatcher.clear();
+        freezer.thawAll();
         chunkLoadTimes.clear();
-        worldEnabled.clear();
+        hysteresis.clear();
+        budgetEnforcer.clear();
+        worldEnabled = new boolean[0];
     }
 
     public double getOptimizationStats() {
@@ -1,33 +1,57 @@
 package eternalpolar.spigot.eternaloptimization.Module.Load;
 
 import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.ServerCompat;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.WorldAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
 import org.bukkit.Bukkit;
-import org.bukkit.Chunk;
+import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPortalEnterEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 public class ChuckPreloadOptimizated implements Listener {
 
+    private static final long PORTAL_PREWARM_INTERVAL_MILLIS = 5000L;
+    // tickets are never 0 since epochs start at 1; asks the scheduled task to open a new epoch when it fires
+    private static final long NEXT_EPOCH = 0L;
+
     private final EternalOptimization plugin;
-    private final Map<String, Map<Long, Long>> preloadedChunks = new ConcurrentHashMap<>();
-    private final Map<String, Integer> preloadRadius = new ConcurrentHashMap<>();
-    private final Map<String, Integer> preloadDelay = new ConcurrentHashMap<>();
-    private final Map<String, Integer> maxPreloadedChunks = new ConcurrentHashMap<>();
-    private final Map<String, Boolean> worldEnabled = new ConcurrentHashMap<>();
-    private final Map<String, BukkitTask> cleanupTasks = new ConcurrentHashMap<>();
-    private final int bukkitVersion;
+    private final ChunkPipeline.Job cleanupJob;
+    private final TickScheduler.Lane lane;
+    private final WorldChunkTables preloadedChunks = new WorldChunkTables();
+    private final MovementTracker movementTracker = new MovementTracker();
+    private final PreloadEpochs epochs = new PreloadEpochs();
+    private final Map<UUID, ScheduledPreload> scheduledPreloads = new HashMap<>();
+    private final Map<UUID, Long> portalPrewarmTimes = new HashMap<>();
+    private volatile boolean[] worldEnabled = new boolean[0];
+    private volatile int[] preloadRadius = new int[0];
+    private volatile int[] preloadDelay = new int[0];
+    private volatile int[] maxPreloadedChunks = new int[0];
+    private BukkitTask[] cleanupTasks = new BukkitTask[0];
+    private PreloadStats[] stats = new PreloadStats[0];
+    private BukkitTask autoTuneTask;
+    private ChunkPreloadBackend backend;
+    private ChunkRetention retention;
+    // pre-1.13 servers kept the old generate-and-save behaviour for preloaded chunks
+    private final boolean legacyChunkApi = !ServerCompat.isAtLeast(13);
 
     private boolean globallyEnabled;
     private int globalPreloadRadius;
@@ -35,10 +59,36 @@ public class ChuckPreloadOptimizated implements Listener {
     private int globalMaxPreloaded;
     private boolean loadAsync;
     private int cleanupInterval;
+    private boolean directional;
+    private double directionalMinSpeed;
+    private double directionalLookaheadSeconds;
+    private int directionalMaxDistance;
+    private int corridorHalfWidth;
+    private double coneSpread;
+    private boolean prewarmEnabled;
+    private int prewarmRadius;
+    private boolean prewarmPortals;
+    private String spawnWorldName;
+    private Set<String> spawnCommands = Collections.emptySet();
+    private Set<String> warpCommands = Collections.emptySet();
+    private Map<String, String> warps = Collections.emptyMap();
+    private boolean autoTune;
+    private double targetHitRate;
+    private double hitRateTolerance;
+    private int autoTuneInterval;
+    private int autoTuneMinSamples;
+    private int minRadius;
+    private int maxRadius;
+    private int minDelay;
+    private int maxDelay;
+    private int delayStep;
+    private int minMaxPreloaded;
+    private int maxMaxPreloaded;
 
     public ChuckPreloadOptimizated(EternalOptimization plugin) {
         this.plugin = plugin;
-        this.bukkitVersion = detectBukkitVersion();
+        this.cleanupJob = plugin.getChunkPipeline().newJob(this::decideExpired, this::applyExpired);
+        this.lane = plugin.getTickScheduler().lane("chunk-preload");
         loadConfig();
         if (globallyEnabled) {
             Bukkit.getPluginManager().registerEvents(this, plugin);
@@ -64,90 +114,192 @@ public class ChuckPreloadOptimizated implements Listener {
         globalMaxPreloaded = config.getInt("global-world.max-preloaded-chunks", 200);
         loadAsync = config.getBoolean("load-async", true);
         cleanupInterval = config.getInt("cleanup-interval-seconds", 30);
+        directional = "directional".equalsIgnoreCase(config.getString("preload-mode", "directional"));
+        directionalMinSpeed = config.getDouble("directional.min-speed", 6.0);
+        directionalLookaheadSeconds = config.getDouble("directional.lookahead-seconds", 4.0);
+        directionalMaxDistance = Math.max(1, config.getInt("directional.max-distance", 12));
+        corridorHalfWidth = Math.max(0, config.getInt("directional.corridor-half-width", 1));
+        coneSpread = Math.max(0.0, config.getDouble("directional.cone-spread", 0.25));
+
+        prewarmEnabled = config.getBoolean("teleport-prewarm.enabled", true);
+        prewarmRadius = Math.max(0, config.getInt("teleport-prewarm.radius", 1));
+        prewarmPortals = config.getBoolean("teleport-prewarm.portals", true);
+        spawnWorldName = config.getString("teleport-prewarm.spawn-world", "");
+        spawnCommands = lowerCaseSet(config.getStringList("teleport-prewarm.spawn-commands"));
+        warpCommands = lowerCaseSet(config.getStringList("teleport-prewarm.warp-commands"));
+        Map<String, String> warpsByName = new HashMap<>();
+        if (config.isConfigurationSection("teleport-prewarm.warps")) {
+            for (String name : config.getConfigurationSection("teleport-prewarm.warps").getKeys(false)) {
+                warpsByName.put(name.toLowerCase(Locale.ROOT), config.getString("teleport-prewarm.warps." + name));
+            }
+        }
+        warps = warpsByName;
+
+        autoTune = config.getBoolean("auto-tune.enabled", true);
+        targetHitRate = config.getDouble("auto-tune.target-hit-rate", 0.6);
+        hitRateTolerance = config.getDouble("auto-tune.tolerance", 0.1);
+        autoTuneInterval = Math.max(1, config.getInt("auto-tune.interval-seconds", 60));
+        autoTuneMinSamples = Math.max(1, config.getInt("auto-tune.min-samples", 50));
+        minRadius = config.getInt("auto-tune.radius.min", 1);
+        maxRadius = Math.max(minRadius, config.getInt("auto-tune.radius.max", 4));
+        minDelay = config.getInt("auto-tune.delay-ticks.min", 4);
+        maxDelay = Math.max(minDelay, config.getInt("auto-tune.delay-ticks.max", 30));
+        delayStep = Math.max(1, config.getInt("auto-tune.delay-ticks.step", 2));
+        minMaxPreloaded = config.getInt("auto-tune.max-preloaded-chunks.min", 100);
+        maxMaxPreloaded = Math.max(minMaxPreloaded, config.getInt("auto-tune.max-preloaded-chunks.max", 400));
+
+        if (backend != null) {
+            backend.clear();
+        }
+        // 1.14+ keeps preloads resident with plugin chunk tickets instead of load/unload churn
+        boolean useTickets = !"unload".equalsIgnoreCase(config.getString("retention", "auto")) && WorldAccess.supportsPluginChunkTickets();
+        retention = useTickets ? new TicketChunkRetention(plugin) : new UnloadChunkRetention(plugin, legacyChunkApi);
+
+        String backendName = config.getString("async-backend", "auto");
+        int maxQueueSize = config.getInt("queue.max-size", 1024);
+        if (loadAsync && !"sync".equalsIgnoreCase(backendName) && WorldAccess.supportsAsyncChunkLoading()) {
+            backend = new PaperChunkPreloadBackend(plugin, epochs, retention, config.getInt("max-async-requests", 32), maxQueueSize, legacyChunkApi);
+        } else {
+            backend = new SyncChunkPreloadBackend(lane, epochs, retention, legacyChunkApi,
+                    config.getInt("queue.chunks-per-tick", 8),
+                    maxQueueSize,
+                    config.getLong("queue.max-wait-millis", 5000));
+        }
 
         boolean globalWorldEnabled = config.getBoolean("global-world.enabled", true);
 
-        for (World world : Bukkit.getWorlds()) {
+        List<World> worlds = Bukkit.getWorlds();
+        int worldCount = 0;
+        for (World world : worlds) {
+            worldCount = Math.max(worldCount, WorldIndex.of(world) + 1);
+        }
+
+        boolean[] enabledByWorld = new boolean[worldCount];
+        int[] radiusByWorld = new int[worldCount];
+        int[] delayByWorld = new int[worldCount];
+        int[] maxPreloadedByWorld = new int[worldCount];
+
+        for (World world : worlds) {
             String worldName = world.getName();
+            int worldIndex = WorldIndex.of(world);
             boolean enabled = config.getBoolean("world-specific." + worldName + ".enabled", globalWorldEnabled);
 
-            worldEnabled.put(worldName, enabled);
+            enabledByWorld[worldIndex] = enabled;
 
             if (enabled) {
-                preloadRadius.put(worldName, config.getInt("world-specific." + worldName + ".preload-radius", globalPreloadRadius));
-                preloadDelay.put(worldName, config.getInt("world-specific." + worldName + ".preload-delay-ticks", globalPreloadDelay));
-                maxPreloadedChunks.put(worldName, config.getInt("world-specific." + worldName + ".max-preloaded-chunks", globalMaxPreloaded));
+                radiusByWorld[worldIndex] = config.getInt("world-specific." + worldName + ".preload-radius", globalPreloadRadius);
+                delayByWorld[worldIndex] = config.getInt("world-specific." + worldName + ".preload-delay-ticks", globalPreloadDelay);
+                maxPreloadedByWorld[worldIndex] = config.getInt("world-specific." + worldName + ".max-preloaded-chunks", globalMaxPreloaded);
+            }
+        }
+
+        if (stats.length < worldCount) {
+            stats = Arrays.copyOf(stats, worldCount);
+        }
+        for (int worldIndex = 0; worldIndex < worldCount; worldIndex++) {
+            if (enabledByWorld[worldIndex] && stats[worldIndex] == null) {
+                stats[worldIndex] = new PreloadStats();
             }
         }
-    }
 
-    private int detectBukkitVersion() {
-        String bukkitVersion = Bukkit.getBukkitVersion();
-        if (bukkitVersion.startsWith("1.8")) return 8;
-        if (bukkitVersion.startsWith("1.9")) return 9;
-        if (bukkitVersion.startsWith("1.10")) return 10;
-        if (bukkitVersion.startsWith("1.11")) return 11;
-        if (bukkitVersion.startsWith("1.12")) return 12;
-        if (bukkitVersion.startsWith("1.13")) return 13;
-        if (bukkitVersion.startsWith("1.14")) return 14;
-        if (bukkitVersion.startsWith("1.15")) return 15;
-        if (bukkitVersion.startsWith("1.16")) return 16;
-        if (bukkitVersion.startsWith("1.17")) return 17;
-        if (bukkitVersion.startsWith("1.18")) return 18;
-        if (bukkitVersion.startsWith("1.19")) return 19;
-        if (bukkitVersion.startsWith("1.20")) return 20;
-        if (bukkitVersion.startsWith("1.21")) return 21;
-        return 12;
+        preloadRadius = radiusByWorld;
+        preloadDelay = delayByWorld;
+        maxPreloadedChunks = maxPreloadedByWorld;
+        worldEnabled = enabledByWorld;
     }
 
     private void startCleanupTasks() {
+        cleanupTasks = new BukkitTask[WorldIndex.size()];
         for (World world : Bukkit.getWorlds()) {
-            String worldName = world.getName();
-            if (isWorldEnabled(worldName)) {
-                startWorldCleanupTask(worldName);
+            int worldIndex = WorldIndex.of(world);
+            if (isWorldEnabled(worldIndex)) {
+                startWorldCleanupTask(world, worldIndex);
             }
         }
+        if (autoTune) {
+            autoTuneTask = Bukkit.getScheduler().runTaskTimer(plugin, this::autoTune, autoTuneInterval * 20L, autoTuneInterval * 20L);
+        }
     }
 
-    private void startWorldCleanupTask(String worldName) {
-        if (cleanupTasks.containsKey(worldName)) {
-            cleanupTasks.get(worldName).cancel();
+    // Walks radius, delay and the preload cap one step per window towards the target hit rate.
+    private void autoTune() {
+        int[] radii = preloadRadius.clone();
+        int[] delays = preloadDelay.clone();
+        int[] maxPreloaded = maxPreloadedChunks.clone();
+        boolean changed = false;
+
+        for (int worldIndex = 0; worldIndex < radii.length; worldIndex++) {
+            PreloadStats worldStats = getStats(worldIndex);
+            if (!isWorldEnabled(worldIndex) || worldStats == null || worldStats.getWindowSamples() < autoTuneMinSamples) continue;
+
+            double hitRate = worldStats.getWindowHitRate();
+            worldStats.resetWindow();
+
+            // too many misses: preload less and later; plenty of hits: there is room to reach further
+            int direction = hitRate < targetHitRate - hitRateTolerance ? -1 : hitRate > targetHitRate + hitRateTolerance ? 1 : 0;
+            if (direction == 0) continue;
+
+            int radius = clamp(radii[worldIndex] + direction, minRadius, maxRadius);
+            int delay = clamp(delays[worldIndex] - direction * delayStep, minDelay, maxDelay);
+            int cap = clamp(maxPreloaded[worldIndex] + direction * Math.max(1, maxPreloaded[worldIndex] / 10), minMaxPreloaded, maxMaxPreloaded);
+            if (radius == radii[worldIndex] && delay == delays[worldIndex] && cap == maxPreloaded[worldIndex]) continue;
+
+            radii[worldIndex] = radius;
+            delays[worldIndex] = delay;
+            maxPreloaded[worldIndex] = cap;
+            changed = true;
+
+            if (plugin.getConfig().getBoolean("debug", false)) {
+                World world = WorldIndex.get(worldIndex);
+                plugin.getLogger().info(String.format("Preload auto-tune %s: hit rate %.1f%% -> radius %d, delay %d, max %d",
+                        world != null ? world.getName() : String.valueOf(worldIndex), hitRate * 100, radius, delay, cap));
+            }
         }
 
-        BukkitTask task = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
-            World world = Bukkit.getWorld(worldName);
-            if (world == null || !isWorldEnabled(worldName)) return;
+        if (changed) {
+            preloadRadius = radii;
+            preloadDelay = delays;
+            maxPreloadedChunks = maxPreloaded;
+        }
+    }
 
-            Map<Long, Long> chunks = preloadedChunks.getOrDefault(worldName, Collections.emptyMap());
-            if (chunks.isEmpty()) return;
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
 
-            long currentTime = System.currentTimeMillis();
-            int maxAge = cleanupInterval * 1000;
-            List<Long> chunksToRemove = new ArrayList<>();
+    private void startWorldCleanupTask(World world, int worldIndex) {
+        if (cleanupTasks[worldIndex] != null) {
+            cleanupTasks[worldIndex].cancel();
+        }
 
-            for (Map.Entry<Long, Long> entry : chunks.entrySet()) {
-                if (currentTime - entry.getValue() > maxAge) {
-                    chunksToRemove.add(entry.getKey());
-                }
-            }
+        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (!isWorldEnabled(worldIndex)) return;
 
-            if (!chunksToRemove.isEmpty()) {
-                Bukkit.getScheduler().runTask(plugin, () -> {
-                    for (long chunkKey : chunksToRemove) {
-                        int x = (int) (chunkKey >> 32);
-                        int z = (int) (chunkKey & 0xFFFFFFFFL);
-                        Chunk chunk = world.getChunkAt(x, z);
-
-                        if (chunk.isLoaded() && !isChunkInUse(world, x, z)) {
-                            unloadChunk(chunk);
-                        }
-                        chunks.remove(chunkKey);
-                    }
-                });
+            ChunkTable chunks = preloadedChunks.get(worldIndex);
+            if (chunks != null) {
+                cleanupJob.submit(world, worldIndex, chunks);
             }
         }, 0, cleanupInterval * 20);
 
-        cleanupTasks.put(worldName, task);
+        cleanupTasks[worldIndex] = task;
+    }
+
+    private int decideExpired(ChunkSnapshot snapshot, long[] out) {
+        long maxAge = cleanupInterval * 1000L;
+        int count = 0;
+        for (int i = 0; i < snapshot.chunkCount; i++) {
+            if (snapshot.capturedAt - snapshot.chunkValues[i] > maxAge) {
+                out[count++] = snapshot.chunkKeys[i];
+            }
+        }
+        return count;
+    }
+
+    private void applyExpired(World world, int worldIndex, long chunkKey) {
+        ChunkTable chunks = preloadedChunks.get(worldIndex);
+        if (chunks == null || !forgetPreloaded(worldIndex, chunks, chunkKey)) return;
+
+        retention.release(world, worldIndex, ChunkTable.keyX(chunkKey), ChunkTable.keyZ(chunkKey));
     }
 
     @EventHandler
@@ -156,204 +308,386 @@ public class ChuckPreloadOptimizated implements Listener {
 
         Player player = event.getPlayer();
         World world = player.getWorld();
-        String worldName = world.getName();
+        int worldIndex = WorldIndex.of(world);
 
-        if (!isWorldEnabled(worldName) || !isSignificantMove(event)) return;
+        if (!isWorldEnabled(worldIndex) || !isSignificantMove(event)) return;
 
-        schedulePreload(player, worldName);
+        Location to = event.getTo();
+        long now = System.currentTimeMillis();
+        recordEntry(worldIndex, to.getBlockX() >> 4, to.getBlockZ() >> 4, now);
+        movementTracker.record(player.getUniqueId(), world, to.getX(), to.getZ(), now);
+        schedulePreload(player, world, worldIndex, NEXT_EPOCH);
     }
 
-    @EventHandler
+    // Also covers PlayerPortalEvent, which extends PlayerTeleportEvent.
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerTeleport(PlayerTeleportEvent event) {
         if (!globallyEnabled) return;
 
+        Location to = event.getTo();
+        if (to == null || to.getWorld() == null) return;
+
         Player player = event.getPlayer();
-        World world = player.getWorld();
-        String worldName = world.getName();
+        World world = to.getWorld();
+        int worldIndex = WorldIndex.of(world);
 
-        if (!isWorldEnabled(worldName)) return;
+        if (!isWorldEnabled(worldIndex)) return;
 
-        schedulePreload(player, worldName);
+        movementTracker.reset(player.getUniqueId());
+        recordEntry(worldIndex, to.getBlockX() >> 4, to.getBlockZ() >> 4, System.currentTimeMillis());
+        long ticket = epochs.advance(player.getUniqueId());
+        if (prewarmEnabled) {
+            queueArea(world, worldIndex, to.getBlockX() >> 4, to.getBlockZ() >> 4, prewarmRadius, null, ticket, true);
+        }
+        schedulePreload(player, world, worldIndex, ticket);
     }
 
-    private boolean isSignificantMove(PlayerMoveEvent event) {
-        Chunk fromChunk = event.getFrom().getChunk();
-        Chunk toChunk = event.getTo().getChunk();
-        return fromChunk.getX() != toChunk.getX() || fromChunk.getZ() != toChunk.getZ();
-    }
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        Player player = event.getPlayer();
+        movementTracker.reset(player.getUniqueId());
+        if (!globallyEnabled) return;
 
-    private void schedulePreload(Player player, String worldName) {
-        int delay = preloadDelay.getOrDefault(worldName, globalPreloadDelay);
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (player.isOnline() && player.getWorld().getName().equals(worldName)) {
-                preloadChunks(player, worldName);
-            }
-        }, delay);
+        // teleports already scheduled the destination; this catches respawns and other world changes
+        World world = player.getWorld();
+        ScheduledPreload scheduled = scheduledPreloads.get(player.getUniqueId());
+        if (scheduled != null && scheduled.world == world) return;
+
+        int worldIndex = WorldIndex.of(world);
+        if (isWorldEnabled(worldIndex)) {
+            schedulePreload(player, world, worldIndex, epochs.advance(player.getUniqueId()));
+        } else {
+            cancelPreloads(player.getUniqueId());
+        }
+        backend.purgeStale();
     }
 
-    private void preloadChunks(Player player, String worldName) {
-        World world = player.getWorld();
-        int radius = preloadRadius.getOrDefault(worldName, globalPreloadRadius);
-        int maxPreloaded = maxPreloadedChunks.getOrDefault(worldName, globalMaxPreloaded);
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityPortalEnter(EntityPortalEnterEvent event) {
+        if (!globallyEnabled || !prewarmEnabled || !prewarmPortals || !(event.getEntity() instanceof Player)) return;
+
+        // fires every tick while the player stands in the portal
+        UUID playerId = event.getEntity().getUniqueId();
+        long now = System.currentTimeMillis();
+        Long last = portalPrewarmTimes.get(playerId);
+        if (last != null && now - last < PORTAL_PREWARM_INTERVAL_MILLIS) return;
+        portalPrewarmTimes.put(playerId, now);
 
-        int playerX = player.getLocation().getBlockX() >> 4;
-        int playerZ = player.getLocation().getBlockZ() >> 4;
+        prewarm(predictPortalDestination(event.getLocation()));
+    }
 
-        Map<Long, Long> chunks = preloadedChunks.computeIfAbsent(worldName, k -> new ConcurrentHashMap<>());
-        List<Long> chunksToLoad = new ArrayList<>();
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+        if (!globallyEnabled || !prewarmEnabled) return;
 
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dz = -radius; dz <= radius; dz++) {
-                int x = playerX + dx;
-                int z = playerZ + dz;
-                long chunkKey = getChunkKey(x, z);
+        String[] parts = event.getMessage().trim().split("\\s+");
+        String label = parts[0].startsWith("/") ? parts[0].substring(1) : parts[0];
+        label = label.substring(label.indexOf(':') + 1).toLowerCase(Locale.ROOT);
 
-                if (!chunks.containsKey(chunkKey) && !isChunkLoaded(world, x, z)) {
-                    chunksToLoad.add(chunkKey);
-                }
+        if (spawnCommands.contains(label)) {
+            World spawnWorld = spawnWorldName.isEmpty() ? Bukkit.getWorlds().get(0) : Bukkit.getWorld(spawnWorldName);
+            if (spawnWorld != null) {
+                prewarm(spawnWorld.getSpawnLocation());
             }
+        } else if (parts.length > 1 && warpCommands.contains(label)) {
+            prewarm(parseWarp(warps.get(parts[1].toLowerCase(Locale.ROOT))));
         }
+    }
 
-        if (chunks.size() + chunksToLoad.size() > maxPreloaded) {
-            int excess = (chunks.size() + chunksToLoad.size()) - maxPreloaded;
-            removeOldestChunks(worldName, excess);
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        portalPrewarmTimes.remove(event.getPlayer().getUniqueId());
+        cancelPreloads(event.getPlayer().getUniqueId());
+    }
+
+    // Invalidates the player's queued loads and frees them from the backend queue right away.
+    private void cancelPreloads(UUID playerId) {
+        movementTracker.reset(playerId);
+        ScheduledPreload scheduled = scheduledPreloads.remove(playerId);
+        if (scheduled != null) {
+            scheduled.task.cancel();
+        }
+        epochs.release(playerId);
+        if (backend != null) {
+            backend.purgeStale();
         }
+    }
 
-        if (loadAsync) {
-            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                for (long chunkKey : chunksToLoad) {
-                    int x = (int) (chunkKey >> 32);
-                    int z = (int) (chunkKey & 0xFFFFFFFFL);
-                    loadChunkAsync(world, x, z, chunkKey, worldName);
-                }
-            });
-        } else {
-            for (long chunkKey : chunksToLoad) {
-                int x = (int) (chunkKey >> 32);
-                int z = (int) (chunkKey & 0xFFFFFFFFL);
-                loadChunkSync(world, x, z, chunkKey, worldName);
+    private void prewarm(Location destination) {
+        if (destination != null && destination.getWorld() != null) {
+            queueWarmup(destination.getWorld(), destination.getBlockX() >> 4, destination.getBlockZ() >> 4, prewarmRadius);
+        }
+    }
+
+    /**
+     * Queues the square around a chunk on the preload backend for a player who is
+     * expected there. Not tied to any player's epoch, since nobody may be online yet.
+     */
+    public boolean queueWarmup(World world, int chunkX, int chunkZ, int radius) {
+        if (!globallyEnabled || backend == null) return false;
+
+        int worldIndex = WorldIndex.of(world);
+        if (!isWorldEnabled(worldIndex)) return false;
+
+        queueArea(world, worldIndex, chunkX, chunkZ, radius, null, PreloadEpochs.UNOWNED, true);
+        return true;
+    }
+
+    private Location predictPortalDestination(Location portal) {
+        World source = portal.getWorld();
+        if (source == null) return null;
+
+        String type = portal.getBlock().getType().name();
+        boolean netherPortal = type.equals("PORTAL") || type.equals("NETHER_PORTAL");
+        boolean endPortal = type.equals("ENDER_PORTAL") || type.equals("END_PORTAL");
+        World overworld = findWorld(World.Environment.NORMAL);
+
+        if (netherPortal) {
+            if (source.getEnvironment() == World.Environment.NETHER) {
+                return overworld != null ? new Location(overworld, portal.getX() * 8, portal.getY(), portal.getZ() * 8) : null;
+            }
+            World nether = findWorld(World.Environment.NETHER);
+            return nether != null ? new Location(nether, portal.getX() / 8, portal.getY(), portal.getZ() / 8) : null;
+        }
+        if (endPortal) {
+            if (source.getEnvironment() == World.Environment.THE_END) {
+                return overworld != null ? overworld.getSpawnLocation() : null;
             }
+            World end = findWorld(World.Environment.THE_END);
+            // the obsidian platform every player lands on
+            return end != null ? new Location(end, 100, 49, 0) : null;
         }
+        return null;
     }
 
-    private void loadChunkSync(World world, int x, int z, long chunkKey, String worldName) {
-        if (!isChunkLoaded(world, x, z)) {
-            loadChunk(world, x, z);
-            preloadedChunks.getOrDefault(worldName, new ConcurrentHashMap<>()).put(chunkKey, System.currentTimeMillis());
+    private World findWorld(World.Environment environment) {
+        for (World world : Bukkit.getWorlds()) {
+            if (world.getEnvironment() == environment) {
+                return world;
+            }
         }
+        return null;
     }
 
-    private void loadChunkAsync(World world, int x, int z, long chunkKey, String worldName) {
+    // "world,x,z" in block coordinates
+    private Location parseWarp(String value) {
+        if (value == null) return null;
+
+        String[] parts = value.split(",");
+        if (parts.length != 3) return null;
+        World world = Bukkit.getWorld(parts[0].trim());
+        if (world == null) return null;
         try {
-            Bukkit.getScheduler().callSyncMethod(plugin, () -> {
-                if (isChunkLoaded(world, x, z)) return false;
-                loadChunk(world, x, z);
-                preloadedChunks.getOrDefault(worldName, new ConcurrentHashMap<>()).put(chunkKey, System.currentTimeMillis());
-                return true;
-            }).get(5, TimeUnit.SECONDS);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to preload chunk (" + x + "," + z + ") in world " + worldName + ": " + e.getMessage());
+            return new Location(world, Double.parseDouble(parts[1].trim()), 0, Double.parseDouble(parts[2].trim()));
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 
-    private boolean isChunkLoaded(World world, int x, int z) {
-        try {
-            return (boolean) World.class.getMethod("isChunkLoaded", int.class, int.class).invoke(world, x, z);
-        } catch (Exception e) {
-            return world.isChunkLoaded(x, z);
+    private static Set<String> lowerCaseSet(List<String> values) {
+        Set<String> set = new HashSet<>();
+        for (String value : values) {
+            set.add(value.toLowerCase(Locale.ROOT));
         }
+        return set;
     }
 
-    private boolean isChunkInUse(World world, int x, int z) {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getWorld().equals(world)) {
-                Chunk playerChunk = player.getLocation().getChunk();
-                if (playerChunk.getX() == x && playerChunk.getZ() == z) {
-                    return true;
-                }
+    private boolean isSignificantMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        return to != null && (from.getBlockX() >> 4 != to.getBlockX() >> 4 || from.getBlockZ() >> 4 != to.getBlockZ() >> 4);
+    }
+
+    // One pending task per player and world: later border crossings leave it running, so players
+    // crossing chunks faster than the delay still get preloads. It reads the player's position when
+    // it fires and then opens a new epoch, superseding what the previous task queued. A teleport
+    // hands over its own ticket instead, so the loads it prewarmed stay current.
+    private void schedulePreload(Player player, World world, int worldIndex, long ticket) {
+        UUID playerId = player.getUniqueId();
+        ScheduledPreload pending = scheduledPreloads.get(playerId);
+        if (pending != null && pending.world == world) {
+            if (ticket != NEXT_EPOCH) {
+                pending.ticket = ticket;
             }
+            return;
         }
-        return isChunkForceLoaded(world, x, z);
+        if (pending != null) {
+            pending.task.cancel();
+        }
+
+        ScheduledPreload scheduled = new ScheduledPreload(world, ticket);
+        scheduled.task = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            if (scheduledPreloads.get(playerId) != scheduled) return;
+            scheduledPreloads.remove(playerId);
+            if (!player.isOnline() || player.getWorld() != world) return;
+
+            long current = scheduled.ticket != NEXT_EPOCH ? scheduled.ticket : epochs.advance(playerId);
+            if (epochs.isCurrent(current)) {
+                preloadChunks(player, world, worldIndex, current);
+            }
+        }, preloadDelay[worldIndex]);
+        scheduledPreloads.put(playerId, scheduled);
     }
 
-    private boolean isChunkForceLoaded(World world, int x, int z) {
-        if (bukkitVersion >= 13) {
-            try {
-                return (boolean) World.class.getMethod("isChunkForceLoaded", int.class, int.class).invoke(world, x, z);
-            } catch (Exception e) {
-                try {
-                    Chunk chunk = world.getChunkAt(x, z);
-                    return (boolean) Chunk.class.getMethod("isForceLoaded").invoke(chunk);
-                } catch (Exception ex) {
-                    return false;
+    private void preloadChunks(Player player, World world, int worldIndex, long ticket) {
+        MovementTracker.Track track = directional ? movementTracker.get(player.getUniqueId(), System.currentTimeMillis()) : null;
+        queueArea(world, worldIndex, player.getLocation().getBlockX() >> 4, player.getLocation().getBlockZ() >> 4,
+                preloadRadius[worldIndex], track, ticket, loadAsync);
+    }
+
+    private void queueArea(World world, int worldIndex, int playerX, int playerZ, int radius,
+                           MovementTracker.Track track, long ticket, boolean viaBackend) {
+        int maxPreloaded = maxPreloadedChunks[worldIndex];
+        ChunkTable chunks = preloadedChunks.getOrCreate(worldIndex);
+        long[] chunksToLoad;
+        int candidateCount;
+
+        if (track != null && track.getSpeed() >= directionalMinSpeed) {
+            ChunkTable corridor = collectCorridor(playerX, playerZ, radius, track);
+            chunksToLoad = new long[corridor.size()];
+            candidateCount = corridor.copyTo(chunksToLoad, null);
+        } else {
+            chunksToLoad = new long[(2 * radius + 1) * (2 * radius + 1)];
+            candidateCount = 0;
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    chunksToLoad[candidateCount++] = getChunkKey(playerX + dx, playerZ + dz);
                 }
             }
+        }
+
+        int loadCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            long chunkKey = chunksToLoad[i];
+            if (!chunks.containsKey(chunkKey) && !isChunkLoaded(world, ChunkTable.keyX(chunkKey), ChunkTable.keyZ(chunkKey))) {
+                chunksToLoad[loadCount++] = chunkKey;
+            }
+        }
+
+        if (chunks.size() + loadCount > maxPreloaded) {
+            int excess = (chunks.size() + loadCount) - maxPreloaded;
+            removeOldestChunks(world, worldIndex, excess);
+        }
+
+        int total = loadCount;
+        if (viaBackend) {
+            backend.load(world, worldIndex, chunksToLoad, total, chunks, ticket);
         } else {
-            try {
-                return (boolean) World.class.getMethod("isChunkForceLoaded", int.class, int.class).invoke(world, x, z);
-            } catch (Exception e) {
-                return false;
+            for (int i = 0; i < total; i++) {
+                long chunkKey = chunksToLoad[i];
+                loadChunkSync(world, ChunkTable.keyX(chunkKey), ChunkTable.keyZ(chunkKey), chunkKey, chunks);
             }
         }
     }
 
-    private void loadChunk(World world, int x, int z) {
-        try {
-            if (bukkitVersion >= 13) {
-                World.class.getMethod("loadChunk", int.class, int.class, boolean.class).invoke(world, x, z, false);
-            } else {
-                World.class.getMethod("loadChunk", int.class, int.class).invoke(world, x, z);
+    // Chunks along the projected path, widening with distance, plus a one-chunk ring for turns.
+    private ChunkTable collectCorridor(int playerX, int playerZ, int radius, MovementTracker.Track track) {
+        double speed = track.getSpeed();
+        double directionX = track.getVelocityX() / speed;
+        double directionZ = track.getVelocityZ() / speed;
+        double distance = Math.min(directionalMaxDistance, Math.max(radius, speed * directionalLookaheadSeconds / 16.0));
+
+        ChunkTable corridor = new ChunkTable((int) (distance * 2 + 1) * (2 * corridorHalfWidth + 3));
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                corridor.put(getChunkKey(playerX + dx, playerZ + dz), 1);
             }
-        } catch (Exception e) {
-            world.loadChunk(x, z);
         }
-    }
 
-    private void unloadChunk(Chunk chunk) {
-        try {
-            if (bukkitVersion >= 13) {
-                Chunk.class.getMethod("unload", boolean.class).invoke(chunk, false);
-            } else {
-                Chunk.class.getMethod("unload").invoke(chunk);
+        double centerX = playerX + 0.5;
+        double centerZ = playerZ + 0.5;
+        for (double step = 0.5; step <= distance; step += 0.5) {
+            double pointX = centerX + directionX * step;
+            double pointZ = centerZ + directionZ * step;
+            double halfWidth = corridorHalfWidth + step * coneSpread;
+            for (double offset = -halfWidth; offset <= halfWidth; offset += 0.5) {
+                // offset runs perpendicular to the direction of travel
+                int x = (int) Math.floor(pointX - directionZ * offset);
+                int z = (int) Math.floor(pointZ + directionX * offset);
+                corridor.put(getChunkKey(x, z), 1);
             }
-        } catch (Exception e) {
-            chunk.unload();
+        }
+        return corridor;
+    }
+
+    private void loadChunkSync(World world, int x, int z, long chunkKey, ChunkTable chunks) {
+        if (!isChunkLoaded(world, x, z)) {
+            loadChunk(world, x, z);
+            chunks.put(chunkKey, System.currentTimeMillis());
+            retention.retain(world, x, z);
         }
     }
 
-    private void removeOldestChunks(String worldName, int count) {
-        Map<Long, Long> chunks = preloadedChunks.getOrDefault(worldName, Collections.emptyMap());
-        if (chunks.isEmpty() || count <= 0) return;
+    private boolean isChunkLoaded(World world, int x, int z) {
+        return WorldAccess.isChunkLoaded(world, x, z);
+    }
+
+    private void loadChunk(World world, int x, int z) {
+        WorldAccess.loadChunk(world, x, z, legacyChunkApi);
+    }
 
-        List<Map.Entry<Long, Long>> sortedChunks = new ArrayList<>(chunks.entrySet());
-        sortedChunks.sort(Map.Entry.comparingByValue());
+    private void removeOldestChunks(World world, int worldIndex, int count) {
+        ChunkTable chunks = preloadedChunks.get(worldIndex);
+        if (chunks == null || chunks.isEmpty() || count <= 0) return;
 
-        World world = Bukkit.getWorld(worldName);
-        if (world == null) return;
+        long[] keys = new long[chunks.size()];
+        long[] times = new long[keys.length];
+        int total = chunks.copyTo(keys, times);
+        ChunkTable.sortByValue(keys, times, total);
 
         int removed = 0;
-        for (Map.Entry<Long, Long> entry : sortedChunks) {
+        for (int i = 0; i < total; i++) {
             if (removed >= count) break;
 
-            long chunkKey = entry.getKey();
-            int x = (int) (chunkKey >> 32);
-            int z = (int) (chunkKey & 0xFFFFFFFFL);
-            Chunk chunk = world.getChunkAt(x, z);
+            long chunkKey = keys[i];
+            int x = ChunkTable.keyX(chunkKey);
+            int z = ChunkTable.keyZ(chunkKey);
 
-            if (chunk.isLoaded() && !isChunkInUse(world, x, z)) {
-                unloadChunk(chunk);
-                chunks.remove(chunkKey);
+            if (!world.isChunkLoaded(x, z)) {
+                forgetPreloaded(worldIndex, chunks, chunkKey);
+                continue;
+            }
+
+            if (retention.release(world, worldIndex, x, z)) {
+                forgetPreloaded(worldIndex, chunks, chunkKey);
                 removed++;
             }
         }
     }
 
-    private boolean isWorldEnabled(String worldName) {
-        return worldEnabled.getOrDefault(worldName, false);
+    private void recordEntry(int worldIndex, int x, int z, long now) {
+        ChunkTable chunks = preloadedChunks.get(worldIndex);
+        PreloadStats worldStats = getStats(worldIndex);
+        if (chunks == null || worldStats == null) return;
+
+        long chunkKey = getChunkKey(x, z);
+        long preloadedAt = chunks.get(chunkKey);
+        if (preloadedAt != ChunkTable.NO_VALUE) {
+            worldStats.recordEntry(chunkKey, preloadedAt, now);
+        }
+    }
+
+    private boolean forgetPreloaded(int worldIndex, ChunkTable chunks, long chunkKey) {
+        if (chunks.remove(chunkKey) == ChunkTable.NO_VALUE) return false;
+        PreloadStats worldStats = getStats(worldIndex);
+        if (worldStats != null) {
+            worldStats.recordRemoval(chunkKey);
+        }
+        return true;
+    }
+
+    private PreloadStats getStats(int worldIndex) {
+        PreloadStats[] worldStats = stats;
+        return worldIndex < worldStats.length ? worldStats[worldIndex] : null;
+    }
+
+    private boolean isWorldEnabled(int worldIndex) {
+        boolean[] enabled = worldEnabled;
+        return worldIndex < enabled.length && enabled[worldIndex];
     }
 
     public long getChunkKey(int x, int z) {
-        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+        return ChunkTable.key(x, z);
     }
 
     public boolean isEnabled() {
@@ -361,10 +695,36 @@ public class ChuckPreloadOptimizated implements Listener {
     }
 
     public void disable() {
+        if (retention != null) {
+            retention.releaseAll();
+        }
         preloadedChunks.clear();
-        worldEnabled.clear();
-        cleanupTasks.values().forEach(BukkitTask::cancel);
-        cleanupTasks.clear();
+        movementTracker.clear();
+        for (ScheduledPreload scheduled : scheduledPreloads.values()) {
+            scheduled.task.cancel();
+        }
+        scheduledPreloads.clear();
+        portalPrewarmTimes.clear();
+        epochs.clear();
+        if (backend != null) {
+            backend.clear();
+        }
+        worldEnabled = new boolean[0];
+        for (BukkitTask task : cleanupTasks) {
+            if (task != null) {
+                task.cancel();
+            }
+        }
+        cleanupTasks = new BukkitTask[0];
+        if (autoTuneTask != null) {
+            autoTuneTask.cancel();
+            autoTuneTask = null;
+        }
+        for (PreloadStats worldStats : stats) {
+            if (worldStats != null) {
+                worldStats.clear();
+            }
+        }
     }
 
     public void reloadConfig() {
@@ -375,19 +735,65 @@ public class ChuckPreloadOptimizated implements Listener {
         }
     }
 
-    public int getPreloadedChunkCount(String worldName) {
-        return preloadedChunks.getOrDefault(worldName, Collections.emptyMap()).size();
+    public boolean isPreloaded(int worldIndex, long chunkKey) {
+        ChunkTable chunks = preloadedChunks.get(worldIndex);
+        return chunks != null && chunks.containsKey(chunkKey);
+    }
+
+    public int getPreloadedChunkCount(World world) {
+        return preloadedChunks.size(WorldIndex.of(world));
+    }
+
+    public String getBackendName() {
+        return backend != null ? backend.getName() : "none";
+    }
+
+    public String getRetentionName() {
+        return retention != null ? retention.getName() : "none";
+    }
+
+    public int getBackendInFlight() {
+        return backend != null ? backend.getInFlight() : 0;
+    }
+
+    public ChunkPreloadBackend getBackend() {
+        return backend;
+    }
+
+    public PreloadStats getPreloadStats(World world) {
+        return getStats(WorldIndex.of(world));
+    }
+
+    public int getPreloadRadius(World world) {
+        int worldIndex = WorldIndex.of(world);
+        int[] radii = preloadRadius;
+        return worldIndex < radii.length ? radii[worldIndex] : 0;
+    }
+
+    public int getPreloadDelay(World world) {
+        int worldIndex = WorldIndex.of(world);
+        int[] delays = preloadDelay;
+        return worldIndex < delays.length ? delays[worldIndex] : 0;
+    }
+
+    public int getMaxPreloadedChunks(World world) {
+        int worldIndex = WorldIndex.of(world);
+        int[] maxPreloaded = maxPreloadedChunks;
+        return worldIndex < maxPreloaded.length ? maxPreloaded[worldIndex] : 0;
     }
 
     public int getTotalPreloadedChunks() {
-        int total = 0;
-        for (Map<Long, Long> chunks : preloadedChunks.values()) {
-            total += chunks.size();
-        }
-        return total;
+        return preloadedChunks.totalSize();
     }
 
-    public int getBukkitVersion() {
-        return bukkitVersion;
+    private static class ScheduledPreload {
+        final World world;
+        long ticket;
+        BukkitTask task;
+
+        ScheduledPreload(World world, long ticket) {
+            this.world = world;
+            this.ticket = ticket;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.ServerCompat;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+
+/**
+ * Scales every world's max-loaded-chunks and base-unload-delay between configured
+ * bounds from tick time and old-gen heap occupancy. Pressure is smoothed, ignored
+ * inside a dead band, answered with a multiplicative step down and recovered from
+ * additively, so the budget settles instead of oscillating.
+ */
+public class ChunkBudgetController {
+
+    private static final double PRESSURE_SMOOTHING = 0.3;
+    private static final double TICK_MILLIS = 50.0;
+
+    private final EternalOptimization plugin;
+    private final ChuckLoadOptimizated owner;
+    private final MemoryPoolMXBean oldGen = findOldGen();
+    private BukkitTask task;
+
+    private boolean enabled;
+    private double minScale = 1.0;
+    private double maxScale = 1.0;
+    private double targetMspt;
+    private double targetHeap;
+    private double deadBand;
+    private double decreaseFactor;
+    private double increaseStep;
+
+    private volatile double level = 1.0;
+    private double smoothedPressure = Double.NaN;
+    private double lastMspt;
+    private double lastHeap;
+
+    ChunkBudgetController(EternalOptimization plugin, ChuckLoadOptimizated owner) {
+        this.plugin = plugin;
+        this.owner = owner;
+    }
+
+    void configure(boolean enabled, double minScale, double maxScale, double targetMspt, double targetHeapPercent,
+                   double deadBand, double decreaseFactor, double increaseStep, int intervalSeconds) {
+        stop();
+        this.enabled = enabled;
+        this.minScale = Math.max(0.05, Math.min(1.0, minScale));
+        this.maxScale = Math.max(1.0, maxScale);
+        this.targetMspt = Math.max(1.0, targetMspt);
+        this.targetHeap = Math.max(1.0, Math.min(100.0, targetHeapPercent)) / 100.0;
+        this.deadBand = Math.max(0.0, deadBand);
+        this.decreaseFactor = Math.max(0.1, Math.min(0.99, decreaseFactor));
+        this.increaseStep = Math.max(0.001, increaseStep);
+
+        if (!enabled) {
+            level = 1.0;
+            return;
+        }
+        // start where the configured budget is, so enabling the controller changes nothing at first
+        level = (1.0 - this.minScale) / (this.maxScale - this.minScale + 1e-9);
+        smoothedPressure = Double.NaN;
+        long period = Math.max(1, intervalSeconds) * 20L;
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::update, period, period);
+    }
+
+    private void update() {
+        lastHeap = sampleOldGenOccupancy();
+        double pressure = Math.max(tickPressure(), lastHeap / targetHeap);
+        smoothedPressure = Double.isNaN(smoothedPressure) ? pressure
+                : smoothedPressure + PRESSURE_SMOOTHING * (pressure - smoothedPressure);
+
+        double previous = level;
+        if (smoothedPressure > 1.0 + deadBand) {
+            level *= decreaseFactor;
+        } else if (smoothedPressure < 1.0 - deadBand) {
+            level = Math.min(1.0, level + increaseStep);
+        }
+
+        if (level < previous) {
+            // a smaller budget only takes effect once the enforcer evicts the excess
+            owner.requestBudgetChecks();
+        }
+        if (level != previous && plugin.getConfig().getBoolean("debug", false)) {
+            plugin.getLogger().info(String.format("Chunk budget scale %.2f -> %.2f (%.1f mspt, %.0f%% old gen)",
+                    scale(previous), scale(level), lastMspt, lastHeap * 100));
+        }
+    }
+
+    private double tickPressure() {
+        double mspt = ServerCompat.getAverageTickTime();
+        if (mspt >= 0) {
+            lastMspt = mspt;
+            return mspt / targetMspt;
+        }
+        // without Paper only an overrun is visible: a server that keeps up ticks every 50 ms regardless of load
+        lastMspt = plugin.getTickScheduler().getTickIntervalMillis();
+        return lastMspt > TICK_MILLIS * (1.0 + deadBand) ? lastMspt / TICK_MILLIS : 0.0;
+    }
+
+    private double sampleOldGenOccupancy() {
+        if (oldGen != null) {
+            // occupancy right after the last collection is what actually stays live
+            MemoryUsage usage = oldGen.getCollectionUsage();
+            if (usage == null || usage.getUsed() == 0) {
+                usage = oldGen.getUsage();
+            }
+            long max = usage.getMax() > 0 ? usage.getMax() : usage.getCommitted();
+            if (max > 0) return usage.getUsed() / (double) max;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) / (double) runtime.maxMemory();
+    }
+
+    private static MemoryPoolMXBean findOldGen() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            String name = pool.getName();
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported()
+                    && (name.contains("Old") || name.contains("Tenured"))) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    private double scale(double level) {
+        return minScale + (maxScale - minScale) * level;
+    }
+
+    /** Multiplier applied to max-loaded-chunks; base-unload-delay uses the same one. */
+    public double getScale() {
+        return enabled ? scale(level) : 1.0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double getPressure() {
+        return Double.isNaN(smoothedPressure) ? 0.0 : smoothedPressure;
+    }
+
+    public double getLastMspt() {
+        return lastMspt;
+    }
+
+    public double getLastHeapPercent() {
+        return lastHeap * 100;
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Module.Load.Eviction.EvictionPolicies;
+import eternalpolar.spigot.eternaloptimization.Module.Load.Eviction.EvictionPolicy;
+import eternalpolar.spigot.eternaloptimization.Module.Load.Eviction.EvictionStats;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+
+import java.util.Arrays;
+
+/**
+ * Coalesces max-loaded-chunks checks to at most one per world per tick and
+ * asks the world's eviction policy for victims, so a pass costs O(k log n).
+ * A pass examines at most MAX_EXAMINED_PER_PASS candidates; chunks it has to
+ * keep stay out of the policy until the sweep ends, so the next tick carries
+ * on past them instead of popping them again.
+ */
+public class ChunkBudgetEnforcer implements ChunkOccupancy.Observer {
+
+    private static final int MAX_EXAMINED_PER_PASS = 256;
+
+    private final EternalOptimization plugin;
+    private final ChuckLoadOptimizated owner;
+    private final TickScheduler.Lane lane;
+    private EvictionPolicy[] policies = new EvictionPolicy[0];
+    private EvictionStats[] stats = new EvictionStats[0];
+    private boolean[] pending = new boolean[0];
+    // chunk key -> policy priority of chunks a running sweep examined but had to keep
+    private final WorldChunkTables held = new WorldChunkTables();
+    private long[] skippedKeys = new long[64];
+    private long[] skippedPriorities = new long[64];
+
+    public ChunkBudgetEnforcer(EternalOptimization plugin, ChuckLoadOptimizated owner) {
+        this.plugin = plugin;
+        this.owner = owner;
+        this.lane = plugin.getTickScheduler().lane("chunk-load");
+        plugin.getChunkOccupancy().addObserver(this);
+    }
+
+    public void configure(int worldIndex, String policyName, long lfuHalfLifeMillis, long thrashWindowMillis) {
+        ensureCapacity(worldIndex);
+
+        EvictionPolicy policy = EvictionPolicies.create(policyName, lfuHalfLifeMillis);
+        ChunkTable loadTimes = owner.getLoadTimes(worldIndex);
+        if (loadTimes != null) {
+            loadTimes.forEach((chunkKey, loadTime) -> policy.onLoad(chunkKey, loadTime, 1));
+        }
+        policies[worldIndex] = policy;
+        ChunkTable worldHeld = held.get(worldIndex);
+        if (worldHeld != null) {
+            worldHeld.clear();
+        }
+
+        if (stats[worldIndex] == null) {
+            stats[worldIndex] = new EvictionStats(thrashWindowMillis);
+        } else {
+            stats[worldIndex].setThrashWindowMillis(thrashWindowMillis);
+        }
+    }
+
+    public boolean needsCost(int worldIndex) {
+        EvictionPolicy policy = policy(worldIndex);
+        return policy != null && policy.needsCost();
+    }
+
+    public boolean onChunkLoaded(int worldIndex, long chunkKey, long loadTime, int cost) {
+        EvictionPolicy policy = policy(worldIndex);
+        if (policy == null) return false;
+
+        policy.onLoad(chunkKey, loadTime, cost);
+        boolean thrash = stats[worldIndex].recordLoad(chunkKey, loadTime);
+        requestCheck(worldIndex);
+        return thrash;
+    }
+
+    public void onChunkUnloaded(int worldIndex, long chunkKey) {
+        EvictionPolicy policy = policy(worldIndex);
+        if (policy != null) {
+            policy.onRemove(chunkKey);
+        }
+        ChunkTable worldHeld = held.get(worldIndex);
+        if (worldHeld != null) {
+            worldHeld.remove(chunkKey);
+        }
+    }
+
+    public void recordEviction(int worldIndex, long chunkKey) {
+        EvictionStats worldStats = getStats(worldIndex);
+        if (worldStats != null) {
+            worldStats.recordEviction(chunkKey, System.currentTimeMillis());
+        }
+    }
+
+    @Override
+    public void onChunkEntered(int worldIndex, long chunkKey) {
+        EvictionPolicy policy = policy(worldIndex);
+        if (policy != null) {
+            policy.onAccess(chunkKey, System.currentTimeMillis());
+        }
+    }
+
+    @Override
+    public void onChunkLeft(int worldIndex, long chunkKey) {
+        onChunkEntered(worldIndex, chunkKey);
+    }
+
+    public void requestCheck(int worldIndex) {
+        ensureCapacity(worldIndex);
+        if (pending[worldIndex]) return;
+
+        pending[worldIndex] = true;
+        lane.submit(TickScheduler.PRIORITY_HIGH, 1, deadlineNanos -> {
+            if (!enforce(worldIndex)) return false;
+            pending[worldIndex] = false;
+            return true;
+        });
+    }
+
+    /** Returns false when the pass hit MAX_EXAMINED_PER_PASS and the sweep continues next tick. */
+    private boolean enforce(int worldIndex) {
+        World world = WorldIndex.get(worldIndex);
+        ChunkTable loadTimes = owner.getLoadTimes(worldIndex);
+        EvictionPolicy policy = policy(worldIndex);
+        if (world == null || loadTimes == null || policy == null) return true;
+
+        ChunkTable worldHeld = held.getOrCreate(worldIndex);
+        int excess = loadTimes.size() - owner.getMaxLoadedChunks(worldIndex);
+        if (excess <= 0) {
+            release(worldIndex, policy, worldHeld);
+            return true;
+        }
+
+        ChunkOccupancy occupancy = plugin.getChunkOccupancy();
+        EvictionStats worldStats = stats[worldIndex];
+        long now = System.currentTimeMillis();
+        int examined = 0;
+        int unloaded = 0;
+
+        while (unloaded < excess) {
+            if (examined == MAX_EXAMINED_PER_PASS) {
+                owner.addChunksOptimized(unloaded);
+                return false;
+            }
+            long chunkKey = policy.nextVictim();
+            if (chunkKey == EvictionPolicy.NO_VICTIM) break;
+            long priority = policy.lastVictimPriority();
+            examined++;
+
+            if (!loadTimes.containsKey(chunkKey)) continue;
+
+            int x = ChunkTable.keyX(chunkKey);
+            int z = ChunkTable.keyZ(chunkKey);
+
+            if (!world.isChunkLoaded(x, z)) {
+                loadTimes.remove(chunkKey);
+                continue;
+            }
+
+            if (!occupancy.isOccupied(worldIndex, chunkKey)) {
+                Chunk chunk = world.getChunkAt(x, z);
+                if (!owner.isChunkInUse(chunk) && plugin.getModificationTracker().unload(worldIndex, chunk)) {
+                    loadTimes.remove(chunkKey);
+                    worldStats.recordEviction(chunkKey, now);
+                    unloaded++;
+                    continue;
+                }
+            }
+
+            worldHeld.put(chunkKey, priority);
+        }
+
+        release(worldIndex, policy, worldHeld);
+        owner.addChunksOptimized(unloaded);
+        return true;
+    }
+
+    private void release(int worldIndex, EvictionPolicy policy, ChunkTable worldHeld) {
+        if (worldHeld.isEmpty()) return;
+
+        if (worldHeld.size() > skippedKeys.length) {
+            skippedKeys = new long[worldHeld.size()];
+            skippedPriorities = new long[worldHeld.size()];
+        }
+        int skippedCount = worldHeld.copyTo(skippedKeys, skippedPriorities);
+        worldHeld.clear();
+
+        ChunkOccupancy occupancy = plugin.getChunkOccupancy();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < skippedCount; i++) {
+            long chunkKey = skippedKeys[i];
+            policy.retain(chunkKey, skippedPriorities[i]);
+            // a chunk inside a player's protected radius counts as accessed right now
+            if (occupancy.isOccupied(worldIndex, chunkKey)) {
+                policy.onAccess(chunkKey, now);
+            }
+        }
+    }
+
+    public String getPolicyName(int worldIndex) {
+        EvictionPolicy policy = policy(worldIndex);
+        return policy != null ? policy.getName() : "none";
+    }
+
+    public EvictionStats getStats(int worldIndex) {
+        return worldIndex < stats.length ? stats[worldIndex] : null;
+    }
+
+    private EvictionPolicy policy(int worldIndex) {
+        return worldIndex < policies.length ? policies[worldIndex] : null;
+    }
+
+    private void ensureCapacity(int worldIndex) {
+        if (worldIndex < pending.length) return;
+        int size = Math.max(worldIndex + 1, WorldIndex.size());
+        policies = Arrays.copyOf(policies, size);
+        stats = Arrays.copyOf(stats, size);
+        pending = Arrays.copyOf(pending, size);
+    }
+
+    public void clear() {
+        for (EvictionPolicy policy : policies) {
+            if (policy != null) {
+                policy.clear();
+            }
+        }
+        held.clear();
+    }
+}
\ No newline at end of file
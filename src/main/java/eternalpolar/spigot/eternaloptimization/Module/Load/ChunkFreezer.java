@@ -0,0 +1,179 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.EntityAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.SpawnerSpawnEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
+
+/**
+ * The tier between loaded and unloaded: idle chunks outside every player's radius
+ * keep their blocks but their mobs lose AI and collisions, and hoppers and spawners
+ * in them stop working. A chunk thaws as soon as it enters a player's radius and
+ * before it is unloaded. Frozen mobs carry a scoreboard tag, so a crash cannot leave
+ * them without AI: tagged mobs are thawed whenever their chunk loads. Needs 1.10+
+ * (AI toggling and scoreboard tags); on older servers the tier stays off.
+ */
+public class ChunkFreezer implements ChunkOccupancy.Observer, Listener {
+
+    private static final String FROZEN_TAG = "eternaloptimization.frozen";
+    private static final boolean SUPPORTED = EntityAccess.supportsAiToggling();
+
+    private final WorldChunkTables frozen = new WorldChunkTables();
+    private volatile boolean enabled;
+    private boolean freezeHoppers;
+    private boolean freezeSpawners;
+    private long freezes;
+    private long thaws;
+
+    public ChunkFreezer(EternalOptimization plugin) {
+        plugin.getChunkOccupancy().addObserver(this);
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    public void configure(boolean enabled, boolean freezeHoppers, boolean freezeSpawners) {
+        if (this.enabled && !enabled) {
+            thawAll();
+        }
+        this.enabled = enabled && SUPPORTED;
+        this.freezeHoppers = freezeHoppers;
+        this.freezeSpawners = freezeSpawners;
+    }
+
+    /** Safe off the main thread. */
+    public boolean isFrozen(int worldIndex, long chunkKey) {
+        ChunkTable table = frozen.get(worldIndex);
+        return table != null && table.containsKey(chunkKey);
+    }
+
+    public void freeze(World world, int worldIndex, long chunkKey) {
+        if (!enabled || isFrozen(worldIndex, chunkKey)) return;
+
+        int x = ChunkTable.keyX(chunkKey);
+        int z = ChunkTable.keyZ(chunkKey);
+        if (!world.isChunkLoaded(x, z)) return;
+
+        for (Entity entity : world.getChunkAt(x, z).getEntities()) {
+            if (!(entity instanceof LivingEntity) || entity instanceof Player) continue;
+
+            LivingEntity living = (LivingEntity) entity;
+            // mobs another plugin already took the AI from are none of our business
+            if (!EntityAccess.hasAI(living)) continue;
+            EntityAccess.addScoreboardTag(living, FROZEN_TAG);
+            EntityAccess.setAI(living, false);
+            EntityAccess.setCollidable(living, false);
+        }
+        frozen.getOrCreate(worldIndex).put(chunkKey, System.currentTimeMillis());
+        freezes++;
+    }
+
+    public void thaw(World world, int worldIndex, long chunkKey) {
+        ChunkTable table = frozen.get(worldIndex);
+        if (table == null || table.remove(chunkKey) == ChunkTable.NO_VALUE) return;
+
+        int x = ChunkTable.keyX(chunkKey);
+        int z = ChunkTable.keyZ(chunkKey);
+        if (world != null && world.isChunkLoaded(x, z)) {
+            thawEntities(world.getChunkAt(x, z));
+        }
+        thaws++;
+    }
+
+    /** Called for every loaded chunk: restores mobs that were saved while frozen. */
+    public void recover(Chunk chunk) {
+        if (!SUPPORTED) return;
+        thawEntities(chunk);
+    }
+
+    /** Called before the chunk is saved, so frozen state never reaches the disk. */
+    public void onChunkUnloaded(Chunk chunk, int worldIndex) {
+        thaw(chunk.getWorld(), worldIndex, ChunkTable.key(chunk.getX(), chunk.getZ()));
+    }
+
+    private static void thawEntities(Chunk chunk) {
+        for (Entity entity : chunk.getEntities()) {
+            if (entity instanceof LivingEntity && EntityAccess.hasScoreboardTag(entity, FROZEN_TAG)) {
+                LivingEntity living = (LivingEntity) entity;
+                EntityAccess.setAI(living, true);
+                EntityAccess.setCollidable(living, true);
+                EntityAccess.removeScoreboardTag(living, FROZEN_TAG);
+            }
+        }
+    }
+
+    @Override
+    public void onChunkEntered(int worldIndex, long chunkKey) {
+        if (isFrozen(worldIndex, chunkKey)) {
+            thaw(WorldIndex.get(worldIndex), worldIndex, chunkKey);
+        }
+    }
+
+    @Override
+    public void onChunkLeft(int worldIndex, long chunkKey) {
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onInventoryMoveItem(InventoryMoveItemEvent event) {
+        if (!enabled || !freezeHoppers) return;
+
+        Location location = event.getInitiator().getLocation();
+        if (location != null && isFrozen(location)) {
+            event.setCancelled(true);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onSpawnerSpawn(SpawnerSpawnEvent event) {
+        if (enabled && freezeSpawners && isFrozen(event.getLocation())) {
+            event.setCancelled(true);
+        }
+    }
+
+    private boolean isFrozen(Location location) {
+        World world = location.getWorld();
+        return world != null && isFrozen(WorldIndex.of(world), ChunkTable.key(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+    }
+
+    public void thawAll() {
+        int worldCount = WorldIndex.size();
+        for (int worldIndex = 0; worldIndex < worldCount; worldIndex++) {
+            ChunkTable table = frozen.get(worldIndex);
+            if (table == null || table.isEmpty()) continue;
+
+            World world = WorldIndex.get(worldIndex);
+            long[] keys = new long[table.size()];
+            int count = table.copyTo(keys, new long[keys.length]);
+            for (int i = 0; i < count; i++) {
+                thaw(world, worldIndex, keys[i]);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getFrozenChunks(int worldIndex) {
+        return frozen.size(worldIndex);
+    }
+
+    public long getFreezes() {
+        return freezes;
+    }
+
+    public long getThaws() {
+        return thaws;
+    }
+}
\ No newline at end of file
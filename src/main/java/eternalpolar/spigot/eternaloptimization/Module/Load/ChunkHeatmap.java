@@ -0,0 +1,287 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.WorldAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decaying per-chunk visit heat sampled from player positions, keyed by world name
+ * and saved to heatmap.dat on disable. On enable the hottest chunks of each world
+ * are queued on the preloader at a throttled rate, whose retention keeps them loaded
+ * until the preload expires, so the first players after a restart do not pay for the
+ * hub and spawn chunks with sync loads.
+ */
+public class ChunkHeatmap {
+
+    private static final int MAGIC = 0x454F484D;
+    private static final int FORMAT_VERSION = 1;
+    // heat is fixed point: one sample of one player adds HEAT_UNIT
+    private static final long HEAT_UNIT = 1000L;
+    private static final long MIN_HEAT = HEAT_UNIT / 10;
+    private static final long DECAY_INTERVAL_MILLIS = 5 * 60 * 1000L;
+
+    private final EternalOptimization plugin;
+    private final TickScheduler.Lane lane;
+    private final File dataFile;
+    private final Map<String, ChunkTable> heat = new HashMap<>();
+    private BukkitTask sampleTask;
+    private long lastDecay = System.currentTimeMillis();
+    private int warmupTotal;
+    private int warmed;
+
+    private boolean enabled;
+    private int sampleIntervalSeconds;
+    private double halfLifeMinutes;
+    private int maxChunksPerWorld;
+    private int warmupTopChunks;
+    private int warmupChunksPerTick;
+    private long warmupPinTicks;
+
+    public ChunkHeatmap(EternalOptimization plugin) {
+        this.plugin = plugin;
+        this.lane = plugin.getTickScheduler().lane("chunk-preload");
+        this.dataFile = new File(plugin.getDataFolder(), "heatmap.dat");
+        loadConfig();
+        if (enabled) {
+            warmup();
+        }
+    }
+
+    public void loadConfig() {
+        File configFile = new File(plugin.getDataFolder(), "functions/heatmap.yml");
+        if (!configFile.exists()) {
+            plugin.saveResource("functions/heatmap.yml", false);
+        }
+        FileConfiguration config = YamlConfiguration.loadConfiguration(configFile);
+
+        enabled = config.getBoolean("enabled", true);
+        sampleIntervalSeconds = Math.max(1, config.getInt("sample-interval-seconds", 10));
+        halfLifeMinutes = Math.max(1.0, config.getDouble("half-life-minutes", 360));
+        maxChunksPerWorld = Math.max(1, config.getInt("max-chunks-per-world", 4096));
+        warmupTopChunks = Math.max(0, config.getInt("warmup.top-chunks", 64));
+        warmupChunksPerTick = Math.max(1, config.getInt("warmup.chunks-per-tick", 2));
+        warmupPinTicks = Math.max(1, config.getInt("warmup.pin-seconds", 120)) * 20L;
+
+        if (sampleTask != null) {
+            sampleTask.cancel();
+            sampleTask = null;
+        }
+        if (enabled) {
+            // also picks up the saved heat when the heatmap is switched on by a reload
+            if (heat.isEmpty()) {
+                load();
+            }
+            sampleTask = Bukkit.getScheduler().runTaskTimer(plugin, this::sample, sampleIntervalSeconds * 20L, sampleIntervalSeconds * 20L);
+        }
+    }
+
+    private void sample() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Location location = player.getLocation();
+            World world = location.getWorld();
+            if (world == null) continue;
+
+            ChunkTable worldHeat = heat.computeIfAbsent(world.getName(), name -> new ChunkTable(256));
+            worldHeat.addTo(ChunkTable.key(location.getBlockX() >> 4, location.getBlockZ() >> 4), HEAT_UNIT);
+        }
+
+        long now = System.currentTimeMillis();
+        long elapsed = now - lastDecay;
+        if (elapsed >= DECAY_INTERVAL_MILLIS) {
+            double factor = Math.pow(0.5, elapsed / (halfLifeMinutes * 60_000.0));
+            for (ChunkTable worldHeat : heat.values()) {
+                decay(worldHeat, factor);
+            }
+            lastDecay = now;
+        } else {
+            for (ChunkTable worldHeat : heat.values()) {
+                if (worldHeat.size() > maxChunksPerWorld * 2) {
+                    decay(worldHeat, 1.0);
+                }
+            }
+        }
+    }
+
+    // Scales every entry, drops the cold ones and keeps at most maxChunksPerWorld of the hottest.
+    private void decay(ChunkTable worldHeat, double factor) {
+        long[] keys = new long[worldHeat.size()];
+        long[] values = new long[keys.length];
+        int count = worldHeat.copyTo(keys, values);
+        ChunkTable.sortByValue(keys, values, count);
+
+        worldHeat.clear();
+        for (int i = Math.max(0, count - maxChunksPerWorld); i < count; i++) {
+            long value = (long) (values[i] * factor);
+            if (value >= MIN_HEAT) {
+                worldHeat.put(keys[i], value);
+            }
+        }
+    }
+
+    private void warmup() {
+        for (Map.Entry<String, ChunkTable> entry : heat.entrySet()) {
+            World world = Bukkit.getWorld(entry.getKey());
+            ChunkTable worldHeat = entry.getValue();
+            if (world == null || worldHeat.isEmpty() || warmupTopChunks == 0) continue;
+
+            long[] keys = new long[worldHeat.size()];
+            long[] values = new long[keys.length];
+            int count = worldHeat.copyTo(keys, values);
+            ChunkTable.sortByValue(keys, values, count);
+
+            int start = Math.max(0, count - warmupTopChunks);
+            long[] hottest = new long[count - start];
+            // hottest first
+            for (int i = 0; i < hottest.length; i++) {
+                hottest[i] = keys[count - 1 - i];
+            }
+            warmupTotal += hottest.length;
+            lane.submit(TickScheduler.PRIORITY_LOW, 0, new Warmup(world, hottest));
+        }
+        if (warmupTotal > 0) {
+            plugin.getLogger().info("Warming " + warmupTotal + " chunks from the heatmap");
+        }
+    }
+
+    private void load() {
+        if (!dataFile.exists()) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(dataFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                plugin.getLogger().warning("Ignoring heatmap.dat written by an unknown version");
+                return;
+            }
+            int worlds = in.readInt();
+            for (int w = 0; w < worlds; w++) {
+                String worldName = in.readUTF();
+                int count = in.readInt();
+                ChunkTable worldHeat = new ChunkTable(count);
+                for (int i = 0; i < count; i++) {
+                    int x = in.readInt();
+                    int z = in.readInt();
+                    worldHeat.put(ChunkTable.key(x, z), in.readInt() & 0xFFFFFFFFL);
+                }
+                heat.put(worldName, worldHeat);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to read heatmap.dat: " + e.getMessage());
+            heat.clear();
+        }
+    }
+
+    public void save() {
+        if (!enabled || heat.isEmpty()) return;
+
+        File tempFile = new File(dataFile.getParentFile(), "heatmap.dat.tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(heat.size());
+            for (Map.Entry<String, ChunkTable> entry : heat.entrySet()) {
+                ChunkTable worldHeat = entry.getValue();
+                long[] keys = new long[worldHeat.size()];
+                long[] values = new long[keys.length];
+                int count = worldHeat.copyTo(keys, values);
+
+                out.writeUTF(entry.getKey());
+                out.writeInt(count);
+                for (int i = 0; i < count; i++) {
+                    out.writeInt(ChunkTable.keyX(keys[i]));
+                    out.writeInt(ChunkTable.keyZ(keys[i]));
+                    out.writeInt((int) Math.min(values[i], 0xFFFFFFFFL));
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write heatmap.dat: " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.move(tempFile.toPath(), dataFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to replace heatmap.dat: " + e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getTrackedChunks() {
+        int total = 0;
+        for (ChunkTable worldHeat : heat.values()) {
+            total += worldHeat.size();
+        }
+        return total;
+    }
+
+    public int getWarmupTotal() {
+        return warmupTotal;
+    }
+
+    public int getWarmed() {
+        return warmed;
+    }
+
+    public void disable() {
+        if (sampleTask != null) {
+            sampleTask.cancel();
+            sampleTask = null;
+        }
+        save();
+        heat.clear();
+    }
+
+    private class Warmup implements TickScheduler.Work {
+        private final World world;
+        private final long[] chunkKeys;
+        private int next;
+
+        Warmup(World world, long[] chunkKeys) {
+            this.world = world;
+            this.chunkKeys = chunkKeys;
+        }
+
+        @Override
+        public boolean run(long deadlineNanos) {
+            int loadedThisTick = 0;
+            while (next < chunkKeys.length && loadedThisTick < warmupChunksPerTick && System.nanoTime() < deadlineNanos) {
+                long chunkKey = chunkKeys[next++];
+                int x = ChunkTable.keyX(chunkKey);
+                int z = ChunkTable.keyZ(chunkKey);
+                if (WorldAccess.isChunkLoaded(world, x, z)) continue;
+
+                // a bare load is unloaded again within seconds by chunk-gc or ticket expiry
+                ChuckPreloadOptimizated preloader = plugin.getChuckPreloadOptimizer();
+                if (preloader == null || !preloader.queueWarmup(world, x, z, 0)) {
+                    // without the preloader at least our own unloaders leave the chunk alone for a while
+                    plugin.getChunkOccupancy().pin(WorldIndex.of(world), x, z, 0, warmupPinTicks);
+                    // these chunks were visited before, so they exist and never need generating
+                    if (WorldAccess.supportsAsyncChunkLoading()) {
+                        WorldAccess.getChunkAtAsync(world, x, z, false);
+                    } else {
+                        WorldAccess.loadChunk(world, x, z, false);
+                    }
+                }
+                loadedThisTick++;
+                warmed++;
+            }
+            return next >= chunkKeys.length;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,361 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockDispenseEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockPhysicsEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.block.SignChangeEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
+import org.bukkit.event.inventory.BrewEvent;
+import org.bukkit.event.inventory.FurnaceBurnEvent;
+import org.bukkit.event.inventory.FurnaceSmeltEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+import org.bukkit.inventory.Inventory;
+
+import java.util.List;
+
+/**
+ * Remembers which loaded chunks changed since they were read from disk, so evictions
+ * can skip writing back the ones nobody touched. Only changes that raise a Bukkit
+ * event are seen: plugin and NMS block edits (WorldEdit, FAWE), note blocks,
+ * jukeboxes and inventories without a location go unnoticed. Because entities move
+ * and change state without any event, a chunk that holds a non-player entity at load
+ * or at unload is always saved. Off by default.
+ */
+public class ChunkModificationTracker implements Listener {
+
+    private static final long CLEAN = 0L;
+    private static final long MODIFIED = -1L;
+
+    private final EternalOptimization plugin;
+    private final WorldChunkTables states = new WorldChunkTables();
+    private boolean enabled;
+    private int lastWorldIndex = -1;
+    private long lastChunkKey;
+
+    private long unloads;
+    private long skippedSaves;
+
+    public ChunkModificationTracker(EternalOptimization plugin) {
+        this.plugin = plugin;
+        loadConfig();
+    }
+
+    public void loadConfig() {
+        boolean wasEnabled = enabled;
+        enabled = plugin.getConfig().getBoolean("dirty-chunk-tracking", false);
+
+        if (enabled && !wasEnabled) {
+            // chunks loaded before this point are unknown and keep being saved
+            Bukkit.getPluginManager().registerEvents(this, plugin);
+        } else if (!enabled && wasEnabled) {
+            HandlerList.unregisterAll(this);
+            states.clear();
+            lastWorldIndex = -1;
+        }
+    }
+
+    /** Unloads the chunk, saving it unless it is known to be unchanged since it was loaded. */
+    public boolean unload(int worldIndex, Chunk chunk) {
+        boolean save = needsSave(worldIndex, chunk);
+        if (!chunk.unload(save)) return false;
+
+        unloads++;
+        if (!save) {
+            skippedSaves++;
+        }
+        return true;
+    }
+
+    public boolean needsSave(int worldIndex, Chunk chunk) {
+        if (!enabled) return true;
+
+        ChunkTable table = states.get(worldIndex);
+        long state = table != null ? table.get(ChunkTable.key(chunk.getX(), chunk.getZ())) : ChunkTable.NO_VALUE;
+        return state != CLEAN || holdsEntities(chunk);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        int worldIndex = WorldIndex.of(chunk.getWorld());
+        long chunkKey = ChunkTable.key(chunk.getX(), chunk.getZ());
+        // a freshly generated chunk exists nowhere on disk yet
+        states.getOrCreate(worldIndex).put(chunkKey, event.isNewChunk() || holdsEntities(chunk) ? MODIFIED : CLEAN);
+        if (worldIndex == lastWorldIndex && chunkKey == lastChunkKey) {
+            lastWorldIndex = -1;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        int worldIndex = WorldIndex.of(chunk.getWorld());
+        ChunkTable table = states.get(worldIndex);
+        if (table != null) {
+            table.remove(ChunkTable.key(chunk.getX(), chunk.getZ()));
+        }
+        lastWorldIndex = -1;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPhysics(BlockPhysicsEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(BlockFromToEvent event) {
+        mark(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockGrow(BlockGrowEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockSpread(BlockSpreadEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(LeavesDecayEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockIgnite(BlockIgniteEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockDispense(BlockDispenseEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSignChange(SignChangeEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        mark(event.getBlock());
+        markAll(event.getBlocks());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        mark(event.getBlock());
+        markAll(event.getBlocks());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        mark(event.getLocation());
+        markAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        mark(event.getBlock());
+        markAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(StructureGrowEvent event) {
+        mark(event.getLocation());
+        for (BlockState state : event.getBlocks()) {
+            mark(state.getLocation());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntitySpawn(EntitySpawnEvent event) {
+        mark(event.getEntity().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        mark(event.getEntity().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityPickupItem(EntityPickupItemEvent event) {
+        mark(event.getEntity().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerInteractEntity(PlayerInteractEntityEvent event) {
+        mark(event.getRightClicked().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        mark(event.getBlockClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent event) {
+        mark(event.getBlockClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        mark(event.getInventory());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryMoveItem(InventoryMoveItemEvent event) {
+        mark(event.getSource());
+        mark(event.getDestination());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFurnaceSmelt(FurnaceSmeltEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFurnaceBurn(FurnaceBurnEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBrew(BrewEvent event) {
+        mark(event.getBlock());
+    }
+
+    private void markAll(List<Block> blocks) {
+        for (Block block : blocks) {
+            mark(block);
+        }
+    }
+
+    private void mark(Inventory inventory) {
+        if (inventory == null) return;
+        mark(inventory.getLocation());
+    }
+
+    private void mark(Location location) {
+        if (location == null || location.getWorld() == null) return;
+        mark(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    private void mark(Block block) {
+        if (block == null) return;
+        mark(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+    }
+
+    private void mark(World world, int chunkX, int chunkZ) {
+        int worldIndex = WorldIndex.of(world);
+        long chunkKey = ChunkTable.key(chunkX, chunkZ);
+        // physics and liquid updates hit the same chunk many times in a row
+        if (worldIndex == lastWorldIndex && chunkKey == lastChunkKey) return;
+
+        ChunkTable table = states.get(worldIndex);
+        if (table != null && table.containsKey(chunkKey)) {
+            table.put(chunkKey, MODIFIED);
+        }
+        lastWorldIndex = worldIndex;
+        lastChunkKey = chunkKey;
+    }
+
+    // Entity movement, damage and state changes raise no event we could track.
+    private static boolean holdsEntities(Chunk chunk) {
+        for (Entity entity : chunk.getEntities()) {
+            if (!(entity instanceof Player)) return true;
+        }
+        return false;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getTrackedChunks() {
+        return states.totalSize();
+    }
+
+    public long getUnloads() {
+        return unloads;
+    }
+
+    public long getSkippedSaves() {
+        return skippedSaves;
+    }
+
+    public void disable() {
+        HandlerList.unregisterAll(this);
+        states.clear();
+        enabled = false;
+    }
+}
\ No newline at end of file
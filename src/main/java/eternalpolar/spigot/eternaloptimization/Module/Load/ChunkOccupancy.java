@@ -0,0 +1,250 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reference-counted grid of the chunks within the protected radius of any player.
+ * Updated only when a player's chunk changes, so lookups are a single table probe.
+ * Temporary pins hold an area the same way for players that are about to arrive.
+ */
+public class ChunkOccupancy implements Listener {
+
+    private final EternalOptimization plugin;
+    private final WorldChunkTables occupied = new WorldChunkTables();
+    private final Map<UUID, PlayerCell> playerCells = new HashMap<>();
+    private final List<Observer> observers = new ArrayList<>();
+    private volatile int[] radius = new int[0];
+    private volatile int[] playersPerWorld = new int[0];
+    private int activePins;
+
+    public ChunkOccupancy(EternalOptimization plugin) {
+        this.plugin = plugin;
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            update(player, player.getLocation());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        update(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        PlayerCell cell = playerCells.remove(event.getPlayer().getUniqueId());
+        if (cell != null) {
+            release(cell.worldIndex, cell.x, cell.z);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        update(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        update(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        update(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        update(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    public void addObserver(Observer observer) {
+        observers.add(observer);
+    }
+
+    public boolean isOccupied(int worldIndex, long chunkKey) {
+        ChunkTable counts = occupied.get(worldIndex);
+        return counts != null && counts.containsKey(chunkKey);
+    }
+
+    public boolean isOccupied(int worldIndex, int x, int z) {
+        return isOccupied(worldIndex, ChunkTable.key(x, z));
+    }
+
+    public boolean hasPlayers(int worldIndex) {
+        int[] counts = playersPerWorld;
+        return worldIndex < counts.length && counts[worldIndex] > 0;
+    }
+
+    public int getOccupiedChunkCount(int worldIndex) {
+        return occupied.size(worldIndex);
+    }
+
+    public int getRadius(int worldIndex) {
+        int[] radii = radius;
+        return worldIndex < radii.length ? radii[worldIndex] : 0;
+    }
+
+    public void setRadius(int worldIndex, int newRadius) {
+        newRadius = Math.max(0, newRadius);
+        if (getRadius(worldIndex) == newRadius && worldIndex < radius.length) return;
+
+        ChunkTable counts = occupied.get(worldIndex);
+        if (counts != null) {
+            for (PlayerCell cell : playerCells.values()) {
+                if (cell.worldIndex == worldIndex) {
+                    release(worldIndex, cell.x, cell.z);
+                }
+            }
+        }
+
+        int[] radii = radius;
+        if (worldIndex >= radii.length) {
+            int[] grown = new int[worldIndex + 1];
+            System.arraycopy(radii, 0, grown, 0, radii.length);
+            radii = grown;
+        } else {
+            radii = radii.clone();
+        }
+        radii[worldIndex] = newRadius;
+        radius = radii;
+
+        for (PlayerCell cell : playerCells.values()) {
+            if (cell.worldIndex == worldIndex) {
+                claim(worldIndex, cell.x, cell.z);
+            }
+        }
+    }
+
+    private void update(Player player, Location location) {
+        if (location == null || location.getWorld() == null) return;
+
+        int worldIndex = WorldIndex.of(location.getWorld());
+        int x = location.getBlockX() >> 4;
+        int z = location.getBlockZ() >> 4;
+
+        PlayerCell cell = playerCells.get(player.getUniqueId());
+        if (cell == null) {
+            playerCells.put(player.getUniqueId(), new PlayerCell(worldIndex, x, z));
+            claim(worldIndex, x, z);
+            return;
+        }
+        if (cell.worldIndex == worldIndex && cell.x == x && cell.z == z) return;
+
+        // claim before releasing so chunks in the overlap never drop to zero
+        claim(worldIndex, x, z);
+        release(cell.worldIndex, cell.x, cell.z);
+        cell.worldIndex = worldIndex;
+        cell.x = x;
+        cell.z = z;
+    }
+
+    /** Holds the square of {@code radius} around the chunk for {@code durationTicks}, as if a player stood there. */
+    public void pin(int worldIndex, int centerX, int centerZ, int radius, long durationTicks) {
+        claimArea(worldIndex, centerX, centerZ, radius);
+        activePins++;
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            activePins--;
+            releaseArea(worldIndex, centerX, centerZ, radius);
+        }, durationTicks);
+    }
+
+    public int getActivePins() {
+        return activePins;
+    }
+
+    private void claim(int worldIndex, int centerX, int centerZ) {
+        claimArea(worldIndex, centerX, centerZ, getRadius(worldIndex));
+        adjustPlayers(worldIndex, 1);
+    }
+
+    private void release(int worldIndex, int centerX, int centerZ) {
+        releaseArea(worldIndex, centerX, centerZ, getRadius(worldIndex));
+        adjustPlayers(worldIndex, -1);
+    }
+
+    private void claimArea(int worldIndex, int centerX, int centerZ, int r) {
+        ChunkTable counts = occupied.getOrCreate(worldIndex);
+        for (int dx = -r; dx <= r; dx++) {
+            for (int dz = -r; dz <= r; dz++) {
+                long key = ChunkTable.key(centerX + dx, centerZ + dz);
+                if (counts.addTo(key, 1) == 1 && !observers.isEmpty()) {
+                    for (Observer observer : observers) {
+                        observer.onChunkEntered(worldIndex, key);
+                    }
+                }
+            }
+        }
+    }
+
+    private void releaseArea(int worldIndex, int centerX, int centerZ, int r) {
+        ChunkTable counts = occupied.getOrCreate(worldIndex);
+        for (int dx = -r; dx <= r; dx++) {
+            for (int dz = -r; dz <= r; dz++) {
+                long key = ChunkTable.key(centerX + dx, centerZ + dz);
+                if (counts.addTo(key, -1) <= 0) {
+                    counts.remove(key);
+                    for (Observer observer : observers) {
+                        observer.onChunkLeft(worldIndex, key);
+                    }
+                }
+            }
+        }
+    }
+
+    private void adjustPlayers(int worldIndex, int delta) {
+        int[] counts = playersPerWorld;
+        if (worldIndex >= counts.length) {
+            int[] grown = new int[worldIndex + 1];
+            System.arraycopy(counts, 0, grown, 0, counts.length);
+            counts = grown;
+            playersPerWorld = counts;
+        }
+        counts[worldIndex] = Math.max(0, counts[worldIndex] + delta);
+    }
+
+    public void disable() {
+        occupied.clear();
+        playerCells.clear();
+        playersPerWorld = new int[0];
+    }
+
+    public interface Observer {
+        void onChunkEntered(int worldIndex, long chunkKey);
+
+        void onChunkLeft(int worldIndex, long chunkKey);
+    }
+
+    private static class PlayerCell {
+        int worldIndex;
+        int x;
+        int z;
+
+        PlayerCell(int worldIndex, int x, int z) {
+            this.worldIndex = worldIndex;
+            this.x = x;
+            this.z = z;
+        }
+    }
+}
\ No newline at end of file
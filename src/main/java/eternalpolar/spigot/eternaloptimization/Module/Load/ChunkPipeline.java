@@ -0,0 +1,117 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+/**
+ * Three-stage chunk work: the main thread captures a {@link ChunkSnapshot}, an
+ * async worker turns it into chunk keys, and the main thread applies those keys
+ * in the "chunk-pipeline" lane of the {@link TickScheduler}.
+ */
+public class ChunkPipeline {
+
+    private static final int APPLY_DEADLINE_TICKS = 40;
+
+    private final EternalOptimization plugin;
+    private final TickScheduler.Lane lane;
+
+    public ChunkPipeline(EternalOptimization plugin) {
+        this.plugin = plugin;
+        this.lane = plugin.getTickScheduler().lane("chunk-pipeline");
+    }
+
+    public Job newJob(Decider decider, Applier applier) {
+        return new Job(decider, applier);
+    }
+
+    public interface Decider {
+        /** Runs off the main thread; writes chosen keys into {@code out} and returns how many. */
+        int decide(ChunkSnapshot snapshot, long[] out);
+    }
+
+    public interface Applier {
+        void apply(World world, int worldIndex, long chunkKey);
+    }
+
+    public class Job {
+        private final Decider decider;
+        private final Applier applier;
+        private boolean[] busy = new boolean[0];
+
+        private Job(Decider decider, Applier applier) {
+            this.decider = decider;
+            this.applier = applier;
+        }
+
+        /** Must be called on the main thread; skipped while this world's previous batch is unfinished. */
+        public boolean submit(World world, int worldIndex, ChunkTable chunks) {
+            if (worldIndex >= busy.length) {
+                boolean[] grown = new boolean[worldIndex + 1];
+                System.arraycopy(busy, 0, grown, 0, busy.length);
+                busy = grown;
+            }
+            if (busy[worldIndex] || chunks.isEmpty()) return false;
+
+            busy[worldIndex] = true;
+            ChunkSnapshot snapshot = ChunkSnapshot.capture(world, worldIndex, chunks);
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                long[] keys = new long[snapshot.chunkCount];
+                int count = 0;
+                try {
+                    count = decider.decide(snapshot, keys);
+                } catch (Exception | LinkageError e) {
+                    plugin.getLogger().warning("Chunk decision failed for world " + world.getName() + ": " + e.getMessage());
+                }
+                lane.submit(TickScheduler.PRIORITY_NORMAL, APPLY_DEADLINE_TICKS, new Batch(this, world, worldIndex, keys, count));
+            });
+            return true;
+        }
+    }
+
+    private class Batch implements TickScheduler.Work {
+        final Job job;
+        final World world;
+        final int worldIndex;
+        final long[] keys;
+        final int count;
+        int next;
+
+        Batch(Job job, World world, int worldIndex, long[] keys, int count) {
+            this.job = job;
+            this.world = world;
+            this.worldIndex = worldIndex;
+            this.keys = keys;
+            this.count = count;
+        }
+
+        @Override
+        public boolean run(long deadlineNanos) {
+            boolean done = true;
+            try {
+                while (next < count) {
+                    long chunkKey = keys[next++];
+                    try {
+                        job.applier.apply(world, worldIndex, chunkKey);
+                    } catch (Exception | LinkageError e) {
+                        // one bad chunk must not stall the rest of the batch
+                        plugin.getLogger().warning("Chunk work failed at " + ChunkTable.keyX(chunkKey) + ", " + ChunkTable.keyZ(chunkKey)
+                                + " in world " + world.getName() + ": " + e);
+                    }
+                    if (next < count && System.nanoTime() >= deadlineNanos) {
+                        done = false;
+                        return false;
+                    }
+                }
+                return true;
+            } finally {
+                // also reached when something escapes, otherwise the world would never be submitted again
+                if (done) {
+                    job.busy[worldIndex] = false;
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,423 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.ServerCompat;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.WorldAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Generates every chunk in a square around the world border center, in spiral or
+ * region order, so new map borders are ready before players explore them. Progress
+ * is checkpointed to pregen.yml and resumed after a restart. Pacing follows tick
+ * time: the chunks allowed in flight (or per tick without Paper) halve while the
+ * server falls behind and grow by one each second while there is headroom.
+ */
+public class ChunkPregenerator {
+
+    private static final long CONTROL_INTERVAL_MILLIS = 1000L;
+    private static final long OUTSIDE = ChunkTable.NO_VALUE;
+
+    public enum Order {
+        SPIRAL, REGION
+    }
+
+    private final EternalOptimization plugin;
+    private final TickScheduler.Lane lane;
+    private final File checkpointFile;
+    private Job job;
+
+    private Order defaultOrder;
+    private int maxInFlight;
+    private int maxChunksPerTick;
+    private double targetTickMillis;
+    private int checkpointIntervalSeconds;
+
+    public ChunkPregenerator(EternalOptimization plugin) {
+        this.plugin = plugin;
+        this.lane = plugin.getTickScheduler().lane("chunk-pregen");
+        this.checkpointFile = new File(plugin.getDataFolder(), "pregen.yml");
+        loadConfig();
+        resumeFromCheckpoint();
+    }
+
+    public void loadConfig() {
+        File configFile = new File(plugin.getDataFolder(), "functions/pregen.yml");
+        if (!configFile.exists()) {
+            plugin.saveResource("functions/pregen.yml", false);
+        }
+        FileConfiguration config = YamlConfiguration.loadConfiguration(configFile);
+
+        defaultOrder = parseOrder(config.getString("order", "region"));
+        maxInFlight = Math.max(1, config.getInt("async.max-in-flight", 16));
+        maxChunksPerTick = Math.max(1, config.getInt("sync.max-chunks-per-tick", 4));
+        targetTickMillis = config.getDouble("target-tick-millis", 40.0);
+        checkpointIntervalSeconds = Math.max(1, config.getInt("checkpoint-interval-seconds", 10));
+    }
+
+    public static Order parseOrder(String name) {
+        return "spiral".equalsIgnoreCase(name) ? Order.SPIRAL : Order.REGION;
+    }
+
+    public Order getDefaultOrder() {
+        return defaultOrder;
+    }
+
+    /** Starts a new job; {@code false} while another one exists (running or paused). */
+    public boolean start(World world, int radiusBlocks, Order order) {
+        if (job != null) return false;
+
+        Location center = world.getWorldBorder().getCenter();
+        int radius = (radiusBlocks + 15) >> 4;
+        job = new Job(world.getName(), center.getBlockX() >> 4, center.getBlockZ() >> 4, radius, order, 0);
+        job.resume();
+        return true;
+    }
+
+    public boolean pause() {
+        if (job == null || job.paused) return false;
+        job.pause();
+        return true;
+    }
+
+    public boolean resume() {
+        if (job == null || !job.paused) return false;
+        job.resume();
+        return true;
+    }
+
+    public boolean stop() {
+        if (job == null) return false;
+        job.cancel();
+        job = null;
+        if (checkpointFile.exists() && !checkpointFile.delete()) {
+            plugin.getLogger().warning("Failed to delete pregen.yml");
+        }
+        return true;
+    }
+
+    /** Whether the running job asked for this chunk, so its load is not charged to a nearby player. */
+    public boolean isRequested(World world, int x, int z) {
+        Job current = job;
+        return current != null && current.requested.containsKey(ChunkTable.key(x, z)) && current.worldName.equals(world.getName());
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public void disable() {
+        if (job != null) {
+            job.saveCheckpoint();
+            job.cancel();
+        }
+    }
+
+    private void resumeFromCheckpoint() {
+        if (!checkpointFile.exists()) return;
+
+        FileConfiguration checkpoint = YamlConfiguration.loadConfiguration(checkpointFile);
+        if (checkpoint.getString("world") == null) return;
+
+        job = new Job(checkpoint.getString("world"),
+                checkpoint.getInt("center-x"),
+                checkpoint.getInt("center-z"),
+                checkpoint.getInt("radius"),
+                parseOrder(checkpoint.getString("order")),
+                checkpoint.getLong("index"));
+        job.completed = checkpoint.getLong("completed");
+        job.skipped = checkpoint.getLong("skipped");
+
+        if (checkpoint.getBoolean("paused", false)) {
+            job.paused = true;
+        } else {
+            plugin.getLogger().info("Resuming pre-generation of " + job.worldName + " at " + String.format(Locale.ROOT, "%.1f%%", job.getProgress()));
+            job.resume();
+        }
+    }
+
+    // Square spiral around (0, 0): index 0 is the center, ring k holds indices (2k-1)^2 .. (2k+1)^2-1.
+    static long spiral(long index) {
+        if (index == 0) return ChunkTable.key(0, 0);
+
+        long k = (long) Math.ceil((Math.sqrt(index + 1) - 1) / 2);
+        while ((2 * k + 1) * (2 * k + 1) - 1 < index) k++;
+        while (k > 1 && (2 * k - 1) * (2 * k - 1) > index) k--;
+
+        long side = 2 * k;
+        long last = (2 * k + 1) * (2 * k + 1) - 1;
+        if (index >= last - side) return ChunkTable.key((int) (k - (last - index)), (int) -k);
+        last -= side;
+        if (index >= last - side) return ChunkTable.key((int) -k, (int) (-k + (last - index)));
+        last -= side;
+        if (index >= last - side) return ChunkTable.key((int) (-k + (last - index)), (int) k);
+        return ChunkTable.key((int) k, (int) (k - (last - index - side)));
+    }
+
+    public final class Job implements TickScheduler.Work {
+        private final String worldName;
+        private final int centerX;
+        private final int centerZ;
+        private final int radius;
+        private final Order order;
+        private final long total;
+        // region order only
+        private final int centerRegionX;
+        private final int centerRegionZ;
+        private final TreeSet<Long> inFlight = new TreeSet<>();
+        // chunk keys of loads we started, until their ChunkLoadEvent has fired
+        private final ChunkTable requested = new ChunkTable(64);
+        private long nextIndex;
+        private long completed;
+        private long skipped;
+        private boolean paused;
+        private boolean cancelled;
+        private boolean scheduled;
+        private int window = 1;
+        private long lastControl;
+        private long completedAtLastControl;
+        private double chunksPerSecond;
+        private long lastCheckpoint;
+
+        private Job(String worldName, int centerX, int centerZ, int radius, Order order, long startIndex) {
+            this.worldName = worldName;
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.radius = radius;
+            this.order = order;
+            this.nextIndex = startIndex;
+            this.centerRegionX = centerX >> 5;
+            this.centerRegionZ = centerZ >> 5;
+
+            if (order == Order.SPIRAL) {
+                total = (2L * radius + 1) * (2L * radius + 1);
+            } else {
+                int regionRadius = Math.max(
+                        Math.max(centerRegionX - ((centerX - radius) >> 5), ((centerX + radius) >> 5) - centerRegionX),
+                        Math.max(centerRegionZ - ((centerZ - radius) >> 5), ((centerZ + radius) >> 5) - centerRegionZ));
+                total = (2L * regionRadius + 1) * (2L * regionRadius + 1) * 1024;
+            }
+        }
+
+        private void resume() {
+            paused = false;
+            lastControl = System.currentTimeMillis();
+            completedAtLastControl = completed;
+            lastCheckpoint = lastControl;
+            if (!scheduled) {
+                scheduled = true;
+                lane.submit(TickScheduler.PRIORITY_LOW, 0, this);
+            }
+        }
+
+        private void pause() {
+            paused = true;
+            saveCheckpoint();
+        }
+
+        private void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean run(long deadlineNanos) {
+            World world = Bukkit.getWorld(worldName);
+            if (cancelled || paused || world == null) {
+                scheduled = false;
+                return true;
+            }
+
+            long now = System.currentTimeMillis();
+            if (now - lastControl >= CONTROL_INTERVAL_MILLIS) {
+                control(now);
+            }
+            if (now - lastCheckpoint >= checkpointIntervalSeconds * 1000L) {
+                saveCheckpoint();
+                lastCheckpoint = now;
+            }
+
+            boolean async = WorldAccess.supportsAsyncChunkLoading();
+            int generatedThisTick = 0;
+            while (nextIndex < total && System.nanoTime() < deadlineNanos
+                    && (async ? inFlight.size() < window : generatedThisTick < window)) {
+                long index = nextIndex++;
+                long chunkKey = position(index);
+                if (chunkKey == OUTSIDE) continue;
+
+                int x = ChunkTable.keyX(chunkKey);
+                int z = ChunkTable.keyZ(chunkKey);
+                if (WorldAccess.isChunkLoaded(world, x, z) || WorldAccess.isChunkGenerated(world, x, z)) {
+                    skipped++;
+                    continue;
+                }
+
+                requested.put(chunkKey, index);
+                if (async) {
+                    inFlight.add(index);
+                    WorldAccess.getChunkAtAsync(world, x, z, true).whenComplete((chunk, error) -> {
+                        if (Bukkit.isPrimaryThread()) {
+                            complete(world, index, x, z, error);
+                        } else if (plugin.isEnabled()) {
+                            Bukkit.getScheduler().runTask(plugin, () -> complete(world, index, x, z, error));
+                        }
+                    });
+                } else {
+                    WorldAccess.loadChunk(world, x, z, true);
+                    requested.remove(chunkKey);
+                    release(world, x, z);
+                    completed++;
+                    generatedThisTick++;
+                }
+            }
+
+            if (nextIndex < total || !inFlight.isEmpty()) return false;
+
+            plugin.getLogger().info(String.format(Locale.ROOT, "Pre-generation of %s finished: %d chunks generated, %d already present",
+                    worldName, completed, skipped));
+            scheduled = false;
+            if (job == this) {
+                stop();
+            }
+            return true;
+        }
+
+        private void complete(World world, long index, int x, int z, Throwable error) {
+            if (!inFlight.remove(index)) return;
+            requested.remove(ChunkTable.key(x, z));
+            if (error != null) {
+                plugin.getLogger().warning("Pre-generation failed at chunk " + x + ", " + z + " in " + worldName + ": " + error.getMessage());
+            } else {
+                release(world, x, z);
+            }
+            completed++;
+        }
+
+        // Back off hard when the server falls behind, creep up while it has headroom.
+        private void control(long now) {
+            chunksPerSecond = (completed - completedAtLastControl) * 1000.0 / (now - lastControl);
+            completedAtLastControl = completed;
+            lastControl = now;
+
+            boolean behind;
+            boolean headroom;
+            double tickMillis = ServerCompat.getAverageTickTime();
+            if (tickMillis >= 0) {
+                behind = tickMillis > targetTickMillis;
+                headroom = tickMillis < targetTickMillis * 0.8;
+            } else {
+                // without Paper only the tick interval is known, which stays at 50 ms until the server lags
+                double interval = plugin.getTickScheduler().getTickIntervalMillis();
+                behind = interval > 52.5;
+                headroom = interval < 51.0;
+            }
+
+            int limit = WorldAccess.supportsAsyncChunkLoading() ? maxInFlight : maxChunksPerTick;
+            if (behind) {
+                window = Math.max(1, window / 2);
+            } else if (headroom) {
+                window = Math.min(limit, window + 1);
+            }
+        }
+
+        private long position(long index) {
+            if (order == Order.SPIRAL) {
+                long offset = spiral(index);
+                return ChunkTable.key(centerX + ChunkTable.keyX(offset), centerZ + ChunkTable.keyZ(offset));
+            }
+
+            // whole 32x32 region files at a time, regions in a spiral around the center
+            long region = spiral(index >>> 10);
+            int inner = (int) (index & 1023);
+            int x = ((centerRegionX + ChunkTable.keyX(region)) << 5) + (inner & 31);
+            int z = ((centerRegionZ + ChunkTable.keyZ(region)) << 5) + (inner >> 5);
+            if (Math.abs(x - centerX) > radius || Math.abs(z - centerZ) > radius) return OUTSIDE;
+            return ChunkTable.key(x, z);
+        }
+
+        private void release(World world, int x, int z) {
+            if (!plugin.getChunkOccupancy().isOccupied(WorldIndex.of(world), x, z)
+                    && !WorldAccess.isChunkForceLoaded(world, x, z)) {
+                world.unloadChunkRequest(x, z);
+            }
+        }
+
+        private void saveCheckpoint() {
+            FileConfiguration checkpoint = YamlConfiguration.loadConfiguration(checkpointFile);
+            checkpoint.set("world", worldName);
+            checkpoint.set("center-x", centerX);
+            checkpoint.set("center-z", centerZ);
+            checkpoint.set("radius", radius);
+            checkpoint.set("order", order.name().toLowerCase(Locale.ROOT));
+            // everything before the oldest chunk still in flight is done
+            checkpoint.set("index", inFlight.isEmpty() ? nextIndex : inFlight.first());
+            checkpoint.set("completed", completed);
+            checkpoint.set("skipped", skipped);
+            checkpoint.set("paused", paused);
+            try {
+                checkpoint.save(checkpointFile);
+            } catch (IOException e) {
+                plugin.getLogger().warning("Failed to write pregen.yml: " + e.getMessage());
+            }
+        }
+
+        public String getWorldName() {
+            return worldName;
+        }
+
+        public int getRadiusChunks() {
+            return radius;
+        }
+
+        public Order getOrder() {
+            return order;
+        }
+
+        public double getProgress() {
+            return total == 0 ? 100.0 : (nextIndex - inFlight.size()) * 100.0 / total;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public long getSkipped() {
+            return skipped;
+        }
+
+        public int getInFlight() {
+            return inFlight.size();
+        }
+
+        public int getWindow() {
+            return window;
+        }
+
+        public double getChunksPerSecond() {
+            return paused ? 0.0 : chunksPerSecond;
+        }
+
+        /** Seconds left at the current rate, or -1 while the rate is unknown. */
+        public long getEtaSeconds() {
+            if (chunksPerSecond <= 0) return -1;
+            double remainingShare = Math.max(0.0, 100.0 - getProgress()) / 100.0;
+            // total counts positions, not chunks; scale by the share of positions that held work so far
+            double workPerPosition = nextIndex == 0 ? 1.0 : (completed + inFlight.size()) / (double) nextIndex;
+            return (long) (remainingShare * total * workPerPosition / chunksPerSecond);
+        }
+
+        public boolean isPaused() {
+            return paused;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import org.bukkit.World;
+
+/**
+ * Loads a batch of preload candidates and records each loaded chunk into the
+ * caller's preloaded table with its load time. Each batch carries the ticket of
+ * the request it belongs to; queued chunks whose ticket was superseded are
+ * dropped without loading. Called on the main thread.
+ */
+public interface ChunkPreloadBackend {
+
+    String getName();
+
+    void load(World world, int worldIndex, long[] chunkKeys, int count, ChunkTable preloaded, long ticket);
+
+    /** Removes queued chunks whose ticket is no longer current. */
+    void purgeStale();
+
+    int getInFlight();
+
+    int getQueueLength();
+
+    double getAverageWaitMillis();
+
+    long getMaxWaitMillis();
+
+    long getDropped();
+
+    long getCancelled();
+
+    void clear();
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import org.bukkit.World;
+
+/**
+ * Keeps preloaded chunks resident until they expire. {@link #retain} is called once a
+ * preload has loaded a chunk, {@link #release} when the preload expires or is evicted.
+ * Called on the main thread.
+ */
+public interface ChunkRetention {
+
+    String getName();
+
+    void retain(World world, int x, int z);
+
+    /** Returns {@code false} when the chunk has to stay, so it is retried later. */
+    boolean release(World world, int worldIndex, int x, int z);
+
+    void releaseAll();
+}
\ No newline at end of file
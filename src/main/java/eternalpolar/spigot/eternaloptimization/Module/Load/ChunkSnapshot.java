@@ -0,0 +1,54 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.ChunkAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.WorldAccess;
+import org.bukkit.World;
+
+/**
+ * Immutable primitive copy of one world's chunk state, captured on the main
+ * thread so decision code can run on any thread without touching Bukkit.
+ */
+public final class ChunkSnapshot {
+
+    public final int worldIndex;
+    public final long capturedAt;
+    public final long[] chunkKeys;
+    public final long[] chunkValues;
+    public final int chunkCount;
+    private final boolean hasPlayers;
+    private final boolean[] forceLoaded;
+
+    private ChunkSnapshot(int worldIndex, boolean hasPlayers, long[] chunkKeys, long[] chunkValues, int chunkCount, boolean[] forceLoaded) {
+        this.worldIndex = worldIndex;
+        this.capturedAt = System.currentTimeMillis();
+        this.chunkKeys = chunkKeys;
+        this.chunkValues = chunkValues;
+        this.chunkCount = chunkCount;
+        this.hasPlayers = hasPlayers;
+        this.forceLoaded = forceLoaded;
+    }
+
+    public static ChunkSnapshot capture(World world, int worldIndex, ChunkTable chunks) {
+        long[] keys = new long[chunks.size()];
+        long[] values = new long[keys.length];
+        int count = chunks.copyTo(keys, values);
+
+        boolean[] forceLoaded = null;
+        if (ChunkAccess.supportsForceLoading()) {
+            forceLoaded = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                forceLoaded[i] = WorldAccess.isChunkForceLoaded(world, ChunkTable.keyX(keys[i]), ChunkTable.keyZ(keys[i]));
+            }
+        }
+        return new ChunkSnapshot(worldIndex, !world.getPlayers().isEmpty(), keys, values, count, forceLoaded);
+    }
+
+    public boolean hasPlayers() {
+        return hasPlayers;
+    }
+
+    public boolean isForceLoaded(int index) {
+        return forceLoaded != null && forceLoaded[index];
+    }
+}
\ No newline at end of file
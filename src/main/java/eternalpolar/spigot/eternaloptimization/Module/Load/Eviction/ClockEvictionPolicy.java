@@ -0,0 +1,135 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load.Eviction;
+
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+
+import java.util.Arrays;
+
+/**
+ * Second-chance CLOCK: chunks sit on a ring with a reference bit that accesses set
+ * and the hand clears, so recently used chunks survive one more sweep.
+ */
+public class ClockEvictionPolicy implements EvictionPolicy {
+
+    private static final long FREE = ChunkTable.NO_VALUE;
+
+    private final ChunkTable slots = new ChunkTable(256);
+    private long[] ring = new long[256];
+    private boolean[] referenced = new boolean[256];
+    private int[] freeSlots = new int[256];
+    private int freeCount;
+    private int used;
+    private int hand;
+
+    public ClockEvictionPolicy() {
+        Arrays.fill(ring, FREE);
+    }
+
+    @Override
+    public String getName() {
+        return "clock";
+    }
+
+    @Override
+    public boolean needsCost() {
+        return false;
+    }
+
+    @Override
+    public void onLoad(long chunkKey, long now, int cost) {
+        insert(chunkKey, false);
+    }
+
+    @Override
+    public void onAccess(long chunkKey, long now) {
+        long slot = slots.get(chunkKey);
+        if (slot != ChunkTable.NO_VALUE) {
+            referenced[(int) slot] = true;
+        }
+    }
+
+    @Override
+    public void onRemove(long chunkKey) {
+        long slot = slots.remove(chunkKey);
+        if (slot != ChunkTable.NO_VALUE) {
+            free((int) slot);
+        }
+    }
+
+    @Override
+    public long nextVictim() {
+        if (slots.isEmpty()) return NO_VICTIM;
+
+        // two sweeps always find a victim: the first clears every reference bit
+        for (int steps = 0; steps < (used << 1); steps++) {
+            int slot = hand;
+            hand = (hand + 1) % used;
+            long chunkKey = ring[slot];
+            if (chunkKey == FREE) continue;
+            if (referenced[slot]) {
+                referenced[slot] = false;
+                continue;
+            }
+            slots.remove(chunkKey);
+            free(slot);
+            return chunkKey;
+        }
+        return NO_VICTIM;
+    }
+
+    @Override
+    public long lastVictimPriority() {
+        return 0;
+    }
+
+    @Override
+    public void retain(long chunkKey, long priority) {
+        insert(chunkKey, false);
+    }
+
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    @Override
+    public void clear() {
+        slots.clear();
+        Arrays.fill(ring, FREE);
+        freeCount = 0;
+        used = 0;
+        hand = 0;
+    }
+
+    private void insert(long chunkKey, boolean reference) {
+        long existing = slots.get(chunkKey);
+        if (existing != ChunkTable.NO_VALUE) {
+            referenced[(int) existing] |= reference;
+            return;
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (used == ring.length) {
+                int capacity = ring.length << 1;
+                ring = Arrays.copyOf(ring, capacity);
+                Arrays.fill(ring, used, capacity, FREE);
+                referenced = Arrays.copyOf(referenced, capacity);
+            }
+            slot = used++;
+        }
+        ring[slot] = chunkKey;
+        referenced[slot] = reference;
+        slots.put(chunkKey, slot);
+    }
+
+    private void free(int slot) {
+        ring[slot] = FREE;
+        referenced[slot] = false;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount << 1);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load.Eviction;
+
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+
+/**
+ * GreedyDual: a chunk's value is the inflation level L plus its reload cost.
+ * Evicting raises L to the victim's value, so cheap chunks go first but expensive ones still age out.
+ */
+public class CostAwareEvictionPolicy extends HeapEvictionPolicy {
+
+    private final ChunkTable costs = new ChunkTable(256);
+    private long inflation;
+
+    @Override
+    public String getName() {
+        return "cost";
+    }
+
+    @Override
+    public boolean needsCost() {
+        return true;
+    }
+
+    @Override
+    public void onLoad(long chunkKey, long now, int cost) {
+        long chunkCost = Math.max(1, cost);
+        costs.put(chunkKey, chunkCost);
+        setPriority(chunkKey, inflation + chunkCost);
+    }
+
+    @Override
+    public void onAccess(long chunkKey, long now) {
+        if (!priorities.containsKey(chunkKey)) return;
+        setPriority(chunkKey, inflation + costs.getOrDefault(chunkKey, 1));
+    }
+
+    @Override
+    public void onRemove(long chunkKey) {
+        super.onRemove(chunkKey);
+        costs.remove(chunkKey);
+    }
+
+    @Override
+    protected void onEvicted(long chunkKey, long priority) {
+        inflation = Math.max(inflation, priority);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        costs.clear();
+        inflation = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load.Eviction;
+
+public final class EvictionPolicies {
+
+    private EvictionPolicies() {
+    }
+
+    public static EvictionPolicy create(String name, long lfuHalfLifeMillis) {
+        switch (name == null ? "" : name.toLowerCase()) {
+            case "fifo":
+                return new FifoEvictionPolicy();
+            case "lfu":
+                return new LfuEvictionPolicy(lfuHalfLifeMillis);
+            case "clock":
+                return new ClockEvictionPolicy();
+            case "cost":
+            case "cost-aware":
+                return new CostAwareEvictionPolicy();
+            case "lru":
+            default:
+                return new LruEvictionPolicy();
+        }
+    }
+}
\ No newline at end of file
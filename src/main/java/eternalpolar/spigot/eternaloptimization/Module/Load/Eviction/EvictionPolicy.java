@@ -0,0 +1,32 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load.Eviction;
+
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+
+/**
+ * Decides which loaded chunk of a single world is evicted next once the world is over budget.
+ * A victim returned by {@link #nextVictim()} is no longer tracked until it is retained again.
+ */
+public interface EvictionPolicy {
+
+    long NO_VICTIM = ChunkTable.NO_VALUE;
+
+    String getName();
+
+    boolean needsCost();
+
+    void onLoad(long chunkKey, long now, int cost);
+
+    void onAccess(long chunkKey, long now);
+
+    void onRemove(long chunkKey);
+
+    long nextVictim();
+
+    long lastVictimPriority();
+
+    void retain(long chunkKey, long priority);
+
+    int size();
+
+    void clear();
+}
\ No newline at end of file
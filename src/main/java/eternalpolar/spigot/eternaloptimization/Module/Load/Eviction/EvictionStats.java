@@ -0,0 +1,69 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load.Eviction;
+
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+
+/**
+ * Eviction counters for one world. A chunk loaded again within the thrash window
+ * after being evicted counts as a reload, which is what a bad policy costs us.
+ */
+public class EvictionStats {
+
+    private static final int PRUNE_THRESHOLD = 4096;
+
+    private final ChunkTable recentlyEvicted = new ChunkTable(256);
+    private volatile long thrashWindowMillis;
+    private long loads;
+    private long evictions;
+    private long reloads;
+
+    public EvictionStats(long thrashWindowMillis) {
+        this.thrashWindowMillis = thrashWindowMillis;
+    }
+
+    public void setThrashWindowMillis(long thrashWindowMillis) {
+        this.thrashWindowMillis = thrashWindowMillis;
+    }
+
+    public boolean recordLoad(long chunkKey, long now) {
+        loads++;
+        long evictedAt = recentlyEvicted.remove(chunkKey);
+        if (evictedAt != ChunkTable.NO_VALUE && now - evictedAt <= thrashWindowMillis) {
+            reloads++;
+            return true;
+        }
+        return false;
+    }
+
+    public void recordEviction(long chunkKey, long now) {
+        evictions++;
+        recentlyEvicted.put(chunkKey, now);
+        if (recentlyEvicted.size() > PRUNE_THRESHOLD) {
+            long cutoff = now - thrashWindowMillis;
+            recentlyEvicted.removeIf((key, evictedAt) -> evictedAt < cutoff);
+        }
+    }
+
+    public long getLoads() {
+        return loads;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getReloads() {
+        return reloads;
+    }
+
+    public double getThrashRate() {
+        if (evictions == 0) return 0.0;
+        return (reloads / (double) evictions) * 100;
+    }
+
+    public void reset() {
+        recentlyEvicted.clear();
+        loads = 0;
+        evictions = 0;
+        reloads = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load.Eviction;
+
+public class FifoEvictionPolicy extends HeapEvictionPolicy {
+
+    @Override
+    public String getName() {
+        return "fifo";
+    }
+
+    @Override
+    public void onLoad(long chunkKey, long now, int cost) {
+        setPriority(chunkKey, now);
+    }
+
+    @Override
+    public void onAccess(long chunkKey, long now) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load.Eviction;
+
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkHeap;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+
+public abstract class HeapEvictionPolicy implements EvictionPolicy {
+
+    protected final ChunkTable priorities = new ChunkTable(256);
+    private final ChunkHeap heap = new ChunkHeap(256);
+    private long lastVictimPriority;
+
+    protected void setPriority(long chunkKey, long priority) {
+        priorities.put(chunkKey, priority);
+        heap.push(priority, chunkKey);
+        if (heap.size() > (priorities.size() << 1) + 64) {
+            heap.rebuild(priorities);
+        }
+    }
+
+    protected void rebuildHeap() {
+        heap.rebuild(priorities);
+    }
+
+    protected void onEvicted(long chunkKey, long priority) {
+    }
+
+    @Override
+    public boolean needsCost() {
+        return false;
+    }
+
+    @Override
+    public void onRemove(long chunkKey) {
+        priorities.remove(chunkKey);
+    }
+
+    @Override
+    public long nextVictim() {
+        while (!heap.isEmpty()) {
+            long priority = heap.peekPriority();
+            long chunkKey = heap.peekKey();
+            heap.pop();
+
+            if (priorities.get(chunkKey) != priority) continue;
+
+            priorities.remove(chunkKey);
+            lastVictimPriority = priority;
+            onEvicted(chunkKey, priority);
+            return chunkKey;
+        }
+        return NO_VICTIM;
+    }
+
+    @Override
+    public long lastVictimPriority() {
+        return lastVictimPriority;
+    }
+
+    @Override
+    public void retain(long chunkKey, long priority) {
+        setPriority(chunkKey, priority);
+    }
+
+    @Override
+    public int size() {
+        return priorities.size();
+    }
+
+    @Override
+    public void clear() {
+        priorities.clear();
+        heap.clear();
+    }
+}
\ No newline at end of file
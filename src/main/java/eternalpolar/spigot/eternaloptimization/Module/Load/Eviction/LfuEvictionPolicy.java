@@ -0,0 +1,63 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load.Eviction;
+
+/**
+ * Least frequently used with exponential decay. Instead of decaying every score,
+ * new accesses are weighted by 2^(age / half-life); the weights are rebased when they grow large.
+ */
+public class LfuEvictionPolicy extends HeapEvictionPolicy {
+
+    private static final double REBASE_WEIGHT = 0x1p40;
+
+    private final double halfLifeMillis;
+    private long epoch = -1;
+
+    public LfuEvictionPolicy(long halfLifeMillis) {
+        this.halfLifeMillis = Math.max(1000L, halfLifeMillis);
+    }
+
+    @Override
+    public String getName() {
+        return "lfu";
+    }
+
+    @Override
+    public void onLoad(long chunkKey, long now, int cost) {
+        setPriority(chunkKey, encode(weight(now)));
+    }
+
+    @Override
+    public void onAccess(long chunkKey, long now) {
+        long current = priorities.get(chunkKey);
+        if (current == NO_VICTIM) return;
+        setPriority(chunkKey, encode(decode(current) + weight(now)));
+    }
+
+    private double weight(long now) {
+        if (epoch < 0) {
+            epoch = now;
+        }
+        double weight = Math.pow(2.0, (now - epoch) / halfLifeMillis);
+        if (weight < REBASE_WEIGHT) return weight;
+
+        // shift the epoch to now and scale existing scores down by the same factor
+        double scale = 1.0 / weight;
+        long[] keys = new long[priorities.size()];
+        long[] values = new long[keys.length];
+        int count = priorities.copyTo(keys, values);
+        for (int i = 0; i < count; i++) {
+            priorities.put(keys[i], encode(decode(values[i]) * scale));
+        }
+        rebuildHeap();
+        epoch = now;
+        return 1.0;
+    }
+
+    // non-negative doubles order the same as their raw bits, so scores can live in the long heap
+    private static long encode(double score) {
+        return Double.doubleToRawLongBits(Math.max(0.0, score));
+    }
+
+    private static double decode(long bits) {
+        return Double.longBitsToDouble(bits);
+    }
+}
\ No newline at end of file
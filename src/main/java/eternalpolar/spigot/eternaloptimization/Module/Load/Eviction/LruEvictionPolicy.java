@@ -0,0 +1,21 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load.Eviction;
+
+public class LruEvictionPolicy extends HeapEvictionPolicy {
+
+    @Override
+    public String getName() {
+        return "lru";
+    }
+
+    @Override
+    public void onLoad(long chunkKey, long now, int cost) {
+        setPriority(chunkKey, now);
+    }
+
+    @Override
+    public void onAccess(long chunkKey, long now) {
+        if (priorities.containsKey(chunkKey)) {
+            setPriority(chunkKey, now);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,304 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.EntityAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.util.Vector;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Token buckets for newly generated chunks, one per player and one for the server.
+ * Each generated chunk is charged to the nearest player; once a bucket is empty the
+ * world's action applies to that player while they fly or glide: "slow" caps their
+ * horizontal speed, "block" keeps them inside their current chunk until it refills.
+ */
+public class ExplorationThrottle implements Listener {
+
+    private static final long RATE_WINDOW_MILLIS = 1000L;
+    private static final long ACTIVE_GENERATOR_MILLIS = 5000L;
+    private static final long MESSAGE_INTERVAL_MILLIS = 5000L;
+
+    public enum Action {
+        NONE, SLOW, BLOCK
+    }
+
+    private final EternalOptimization plugin;
+    private final Map<UUID, PlayerBudget> budgets = new HashMap<>();
+    private final TokenBucket globalBucket = new TokenBucket();
+    private volatile Action[] actions = new Action[0];
+    private Action globalAction = Action.NONE;
+
+    private boolean enabled;
+    private double playerBurst;
+    private double playerRefillPerSecond;
+    private double slowMaxSpeed;
+    private boolean onlyFlying;
+    private String message;
+
+    private long generated;
+    private long throttleActions;
+    private long windowStart = System.currentTimeMillis();
+    private long generatedInWindow;
+    private double chunksPerSecond;
+    private double peakChunksPerSecond;
+
+    public ExplorationThrottle(EternalOptimization plugin) {
+        this.plugin = plugin;
+        loadConfig();
+    }
+
+    public void loadConfig() {
+        File configFile = new File(plugin.getDataFolder(), "functions/exploration.yml");
+        if (!configFile.exists()) {
+            plugin.saveResource("functions/exploration.yml", false);
+        }
+        FileConfiguration config = YamlConfiguration.loadConfiguration(configFile);
+
+        boolean wasEnabled = enabled;
+        enabled = config.getBoolean("enabled", true);
+        playerBurst = Math.max(1, config.getDouble("player.burst", 48));
+        playerRefillPerSecond = Math.max(0.1, config.getDouble("player.chunks-per-second", 8));
+        globalBucket.configure(Math.max(1, config.getDouble("global.burst", 256)), Math.max(0.1, config.getDouble("global.chunks-per-second", 40)));
+        slowMaxSpeed = Math.max(0.05, config.getDouble("slow.max-blocks-per-tick", 0.6));
+        onlyFlying = config.getBoolean("only-flying", true);
+        message = ChatColor.translateAlternateColorCodes('&', config.getString("message", ""));
+
+        String globalActionName = config.getString("global-world.action", "slow");
+        globalAction = parseAction(globalActionName);
+        List<World> worlds = Bukkit.getWorlds();
+        int worldCount = 0;
+        for (World world : worlds) {
+            worldCount = Math.max(worldCount, WorldIndex.of(world) + 1);
+        }
+        Action[] actionByWorld = new Action[worldCount];
+        for (World world : worlds) {
+            actionByWorld[WorldIndex.of(world)] = parseAction(config.getString("world-specific." + world.getName() + ".action", globalActionName));
+        }
+        actions = actionByWorld;
+
+        for (PlayerBudget budget : budgets.values()) {
+            budget.bucket.configure(playerBurst, playerRefillPerSecond);
+        }
+
+        if (enabled && !wasEnabled) {
+            Bukkit.getPluginManager().registerEvents(this, plugin);
+        } else if (!enabled && wasEnabled) {
+            HandlerList.unregisterAll(this);
+            budgets.clear();
+        }
+    }
+
+    private static Action parseAction(String name) {
+        if ("block".equalsIgnoreCase(name)) return Action.BLOCK;
+        if ("none".equalsIgnoreCase(name)) return Action.NONE;
+        return Action.SLOW;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (!event.isNewChunk()) return;
+
+        Chunk chunk = event.getChunk();
+        ChunkPregenerator pregenerator = plugin.getChunkPregenerator();
+        // /eo pregen runs on its own budget and must not throttle whoever stands nearby
+        if (pregenerator != null && pregenerator.isRequested(chunk.getWorld(), chunk.getX(), chunk.getZ())) return;
+
+        long now = System.currentTimeMillis();
+        generated++;
+        generatedInWindow++;
+        sampleRate(now);
+        globalBucket.take(now);
+
+        Player generator = nearestPlayer(chunk);
+        if (generator != null) {
+            PlayerBudget budget = budgets.computeIfAbsent(generator.getUniqueId(), id -> new PlayerBudget(playerBurst, playerRefillPerSecond));
+            budget.bucket.take(now);
+            budget.generated++;
+            budget.lastGeneratedAt = now;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to == null) return;
+
+        Player player = event.getPlayer();
+        PlayerBudget budget = budgets.get(player.getUniqueId());
+        if (budget == null || (onlyFlying && !player.isFlying() && !EntityAccess.isGliding(player))) return;
+
+        long now = System.currentTimeMillis();
+        if (!isThrottled(budget, now)) return;
+
+        Action action = getAction(WorldIndex.of(to.getWorld()));
+        if (action == Action.BLOCK) {
+            // soft block: free movement inside the current chunk, no crossing into the next one
+            if (from.getBlockX() >> 4 != to.getBlockX() >> 4 || from.getBlockZ() >> 4 != to.getBlockZ() >> 4) {
+                event.setCancelled(true);
+                throttleActions++;
+                notify(player, budget, now);
+            }
+        } else if (action == Action.SLOW) {
+            // flight and elytra speed is client-driven, so getVelocity() does not show it; the move delta does
+            double dx = to.getX() - from.getX();
+            double dz = to.getZ() - from.getZ();
+            double horizontal = Math.sqrt(dx * dx + dz * dz);
+            if (horizontal > slowMaxSpeed) {
+                double scale = slowMaxSpeed / horizontal;
+                Location clamped = to.clone();
+                clamped.setX(from.getX() + dx * scale);
+                clamped.setZ(from.getZ() + dz * scale);
+                event.setTo(clamped);
+                player.setVelocity(new Vector(dx * scale, to.getY() - from.getY(), dz * scale));
+                throttleActions++;
+                notify(player, budget, now);
+            }
+        }
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        budgets.remove(event.getPlayer().getUniqueId());
+    }
+
+    // An empty server bucket only throttles players who are generating right now.
+    private boolean isThrottled(PlayerBudget budget, long now) {
+        if (budget.bucket.isEmpty(now)) return true;
+        return now - budget.lastGeneratedAt < ACTIVE_GENERATOR_MILLIS && globalBucket.isEmpty(now);
+    }
+
+    private void notify(Player player, PlayerBudget budget, long now) {
+        if (message.isEmpty() || now - budget.lastMessageAt < MESSAGE_INTERVAL_MILLIS) return;
+        budget.lastMessageAt = now;
+        player.sendMessage(message);
+    }
+
+    private Player nearestPlayer(Chunk chunk) {
+        int viewDistance = Bukkit.getServer().getViewDistance();
+        Player nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (Player player : chunk.getWorld().getPlayers()) {
+            Location location = player.getLocation();
+            int distance = Math.max(Math.abs((location.getBlockX() >> 4) - chunk.getX()), Math.abs((location.getBlockZ() >> 4) - chunk.getZ()));
+            if (distance <= viewDistance + 1 && distance < nearestDistance) {
+                nearest = player;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    private void sampleRate(long now) {
+        long elapsed = now - windowStart;
+        if (elapsed < RATE_WINDOW_MILLIS) return;
+
+        chunksPerSecond = generatedInWindow * 1000.0 / elapsed;
+        peakChunksPerSecond = Math.max(peakChunksPerSecond, chunksPerSecond);
+        generatedInWindow = 0;
+        windowStart = now;
+    }
+
+    private Action getAction(int worldIndex) {
+        Action[] byWorld = actions;
+        return worldIndex < byWorld.length && byWorld[worldIndex] != null ? byWorld[worldIndex] : globalAction;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getGenerated() {
+        return generated;
+    }
+
+    public double getChunksPerSecond() {
+        // the rate is only sampled on new chunks; an idle window means nothing is being generated
+        return System.currentTimeMillis() - windowStart > 2 * RATE_WINDOW_MILLIS ? 0.0 : chunksPerSecond;
+    }
+
+    public double getPeakChunksPerSecond() {
+        return peakChunksPerSecond;
+    }
+
+    public long getThrottleActions() {
+        return throttleActions;
+    }
+
+    public int getThrottledPlayers() {
+        long now = System.currentTimeMillis();
+        int count = 0;
+        for (PlayerBudget budget : budgets.values()) {
+            if (isThrottled(budget, now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public void disable() {
+        HandlerList.unregisterAll(this);
+        budgets.clear();
+        enabled = false;
+    }
+
+    private static class PlayerBudget {
+        final TokenBucket bucket = new TokenBucket();
+        long generated;
+        long lastGeneratedAt;
+        long lastMessageAt;
+
+        PlayerBudget(double burst, double refillPerSecond) {
+            bucket.configure(burst, refillPerSecond);
+        }
+    }
+
+    // Generation is charged after the fact, so the balance may go negative down to -capacity.
+    private static class TokenBucket {
+        private double capacity;
+        private double refillPerMilli;
+        private double tokens = Double.NaN;
+        private long lastRefill = System.currentTimeMillis();
+
+        void configure(double capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerMilli = refillPerSecond / 1000.0;
+            tokens = Double.isNaN(tokens) ? capacity : Math.min(tokens, capacity);
+        }
+
+        void take(long now) {
+            refill(now);
+            tokens = Math.max(-capacity, tokens - 1);
+        }
+
+        boolean isEmpty(long now) {
+            refill(now);
+            return tokens <= 0;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerMilli);
+            lastRefill = now;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Remembers where each player logged out and, as soon as their login is accepted,
+ * queues that area on the preload backend and pins it in {@link ChunkOccupancy}
+ * for a grace window, so the chunks are loaded and kept by the time they spawn.
+ */
+public class JoinWarmup implements Listener {
+
+    private static final int MAGIC = 0x454F4C4C;
+    private static final int FORMAT_VERSION = 1;
+
+    private final EternalOptimization plugin;
+    private final File dataFile;
+    private final Object saveLock = new Object();
+    // read from the async pre-login thread, written on the main thread
+    private final Map<UUID, LastLocation> locations = Collections.synchronizedMap(new LinkedHashMap<UUID, LastLocation>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, LastLocation> eldest) {
+            return size() > maxEntries;
+        }
+    });
+    private BukkitTask saveTask;
+    private long warmedJoins;
+
+    private volatile boolean enabled;
+    private volatile int radius;
+    private volatile int pinSeconds;
+    private volatile int maxEntries;
+
+    public JoinWarmup(EternalOptimization plugin) {
+        this.plugin = plugin;
+        this.dataFile = new File(plugin.getDataFolder(), "logout-locations.dat");
+        loadConfig();
+        load();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    public void loadConfig() {
+        File configFile = new File(plugin.getDataFolder(), "functions/joinWarmup.yml");
+        if (!configFile.exists()) {
+            plugin.saveResource("functions/joinWarmup.yml", false);
+        }
+        FileConfiguration config = YamlConfiguration.loadConfiguration(configFile);
+
+        enabled = config.getBoolean("enabled", true);
+        radius = Math.max(0, config.getInt("radius", 2));
+        pinSeconds = Math.max(1, config.getInt("pin-seconds", 60));
+        maxEntries = Math.max(1, config.getInt("max-entries", 10000));
+        long saveInterval = Math.max(1, config.getInt("save-interval-minutes", 5)) * 60 * 20L;
+
+        if (saveTask != null) {
+            saveTask.cancel();
+        }
+        saveTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::save, saveInterval, saveInterval);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (!enabled || event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+        LastLocation last = locations.get(event.getUniqueId());
+        if (last == null) return;
+
+        Bukkit.getScheduler().runTask(plugin, () -> warm(last));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Location location = event.getPlayer().getLocation();
+        if (location.getWorld() == null) return;
+
+        locations.put(event.getPlayer().getUniqueId(),
+                new LastLocation(location.getWorld().getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4));
+    }
+
+    private void warm(LastLocation last) {
+        World world = Bukkit.getWorld(last.worldName);
+        ChuckPreloadOptimizated preloader = plugin.getChuckPreloadOptimizer();
+        if (world == null || preloader == null) return;
+
+        if (preloader.queueWarmup(world, last.chunkX, last.chunkZ, radius)) {
+            // keeps ChuckLoadOptimizated and the strategies from evicting the area before the player spawns
+            plugin.getChunkOccupancy().pin(WorldIndex.of(world), last.chunkX, last.chunkZ, radius, pinSeconds * 20L);
+            warmedJoins++;
+        }
+    }
+
+    private void load() {
+        if (!dataFile.exists()) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(dataFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                plugin.getLogger().warning("Ignoring logout-locations.dat written by an unknown version");
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                UUID playerId = new UUID(in.readLong(), in.readLong());
+                locations.put(playerId, new LastLocation(in.readUTF(), in.readInt(), in.readInt()));
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to read logout-locations.dat: " + e.getMessage());
+        }
+    }
+
+    public void save() {
+        List<Map.Entry<UUID, LastLocation>> entries;
+        synchronized (locations) {
+            entries = new ArrayList<>(locations.entrySet());
+        }
+
+        synchronized (saveLock) {
+            File tempFile = new File(dataFile.getParentFile(), "logout-locations.dat.tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(entries.size());
+                // least recently used first, so the access order survives a restart
+                for (Map.Entry<UUID, LastLocation> entry : entries) {
+                    LastLocation last = entry.getValue();
+                    out.writeLong(entry.getKey().getMostSignificantBits());
+                    out.writeLong(entry.getKey().getLeastSignificantBits());
+                    out.writeUTF(last.worldName);
+                    out.writeInt(last.chunkX);
+                    out.writeInt(last.chunkZ);
+                }
+            } catch (IOException e) {
+                plugin.getLogger().warning("Failed to write logout-locations.dat: " + e.getMessage());
+                return;
+            }
+
+            try {
+                Files.move(tempFile.toPath(), dataFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                plugin.getLogger().warning("Failed to replace logout-locations.dat: " + e.getMessage());
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getKnownLocations() {
+        return locations.size();
+    }
+
+    public long getWarmedJoins() {
+        return warmedJoins;
+    }
+
+    public void disable() {
+        if (saveTask != null) {
+            saveTask.cancel();
+            saveTask = null;
+        }
+        save();
+    }
+
+    private static class LastLocation {
+        final String worldName;
+        final int chunkX;
+        final int chunkZ;
+
+        LastLocation(String worldName, int chunkX, int chunkZ) {
+            this.worldName = worldName;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+}
\ No newline at end of file
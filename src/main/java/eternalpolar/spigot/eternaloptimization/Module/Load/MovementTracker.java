@@ -0,0 +1,91 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import org.bukkit.World;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Horizontal velocity per player, sampled at chunk-border crossings and smoothed
+ * with an exponential moving average. Main thread only.
+ */
+public class MovementTracker {
+
+    private static final double SMOOTHING = 0.5;
+    private static final long STALE_MILLIS = 5000L;
+
+    private final Map<UUID, Track> tracks = new HashMap<>();
+
+    public void record(UUID playerId, World world, double x, double z, long now) {
+        Track track = tracks.get(playerId);
+        if (track == null) {
+            tracks.put(playerId, new Track(world, x, z, now));
+            return;
+        }
+
+        long elapsed = now - track.time;
+        if (track.world != world || elapsed > STALE_MILLIS) {
+            track.reset(world, x, z, now);
+            return;
+        }
+        if (elapsed <= 0) return;
+
+        double seconds = elapsed / 1000.0;
+        double velocityX = (x - track.x) / seconds;
+        double velocityZ = (z - track.z) / seconds;
+        track.velocityX += SMOOTHING * (velocityX - track.velocityX);
+        track.velocityZ += SMOOTHING * (velocityZ - track.velocityZ);
+        track.x = x;
+        track.z = z;
+        track.time = now;
+    }
+
+    /** Blocks per second along X and Z, or {@code null} without a recent sample. */
+    public Track get(UUID playerId, long now) {
+        Track track = tracks.get(playerId);
+        return track != null && now - track.time <= STALE_MILLIS ? track : null;
+    }
+
+    public void reset(UUID playerId) {
+        tracks.remove(playerId);
+    }
+
+    public void clear() {
+        tracks.clear();
+    }
+
+    public static final class Track {
+        private World world;
+        private double x;
+        private double z;
+        private long time;
+        private double velocityX;
+        private double velocityZ;
+
+        private Track(World world, double x, double z, long time) {
+            reset(world, x, z, time);
+        }
+
+        private void reset(World world, double x, double z, long time) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+            this.time = time;
+            this.velocityX = 0;
+            this.velocityZ = 0;
+        }
+
+        public double getVelocityX() {
+            return velocityX;
+        }
+
+        public double getVelocityZ() {
+            return velocityZ;
+        }
+
+        public double getSpeed() {
+            return Math.sqrt(velocityX * velocityX + velocityZ * velocityZ);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.WorldAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Paper backend: chunks are read and generated off the main thread through
+ * World#getChunkAtAsync. At most max-async-requests loads are in flight; the rest
+ * wait in a de-duplicated FIFO that is pumped as loads complete.
+ */
+public class PaperChunkPreloadBackend implements ChunkPreloadBackend {
+
+    private final EternalOptimization plugin;
+    private final PreloadEpochs epochs;
+    private final int maxInFlight;
+    private final int maxQueueSize;
+    private final boolean generate;
+    private final ChunkRetention retention;
+    // chunk key -> ticket of the latest request that wanted it, while queued or in flight
+    private final WorldChunkTables requested = new WorldChunkTables();
+    private final ArrayDeque<Request> pending = new ArrayDeque<>();
+    private int inFlight;
+    private long failures;
+    private long dispatched;
+    private long totalWaitMillis;
+    private long maxObservedWaitMillis;
+    private long dropped;
+    private long cancelled;
+
+    public PaperChunkPreloadBackend(EternalOptimization plugin, PreloadEpochs epochs, ChunkRetention retention, int maxInFlight, int maxQueueSize, boolean generate) {
+        this.plugin = plugin;
+        this.epochs = epochs;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxQueueSize = Math.max(1, maxQueueSize);
+        this.generate = generate;
+        this.retention = retention;
+    }
+
+    @Override
+    public String getName() {
+        return "paper-async";
+    }
+
+    @Override
+    public void load(World world, int worldIndex, long[] chunkKeys, int count, ChunkTable preloaded, long ticket) {
+        ChunkTable worldRequests = requested.getOrCreate(worldIndex);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            if (worldRequests.putIfAbsent(chunkKeys[i], ticket) != ChunkTable.NO_VALUE) {
+                if (ticket != PreloadEpochs.UNOWNED) {
+                    worldRequests.put(chunkKeys[i], ticket);
+                }
+                continue;
+            }
+
+            if (pending.size() == maxQueueSize) {
+                Request stale = pending.poll();
+                stale.requests.remove(stale.chunkKey);
+                dropped++;
+            }
+            pending.add(new Request(world, worldRequests, chunkKeys[i], preloaded, now));
+        }
+        pump();
+    }
+
+    private void pump() {
+        while (inFlight < maxInFlight && !pending.isEmpty()) {
+            Request request = pending.poll();
+            int x = ChunkTable.keyX(request.chunkKey);
+            int z = ChunkTable.keyZ(request.chunkKey);
+            if (!epochs.isCurrent(request.requests.get(request.chunkKey))) {
+                request.requests.remove(request.chunkKey);
+                cancelled++;
+                continue;
+            }
+            if (WorldAccess.isChunkLoaded(request.world, x, z)) {
+                request.requests.remove(request.chunkKey);
+                continue;
+            }
+
+            long waited = System.currentTimeMillis() - request.enqueuedAt;
+            dispatched++;
+            totalWaitMillis += waited;
+            maxObservedWaitMillis = Math.max(maxObservedWaitMillis, waited);
+
+            inFlight++;
+            WorldAccess.getChunkAtAsync(request.world, x, z, generate).whenComplete((chunk, error) -> {
+                if (Bukkit.isPrimaryThread()) {
+                    complete(request, chunk, error);
+                } else if (plugin.isEnabled()) {
+                    Bukkit.getScheduler().runTask(plugin, () -> complete(request, chunk, error));
+                }
+            });
+        }
+    }
+
+    private void complete(Request request, Chunk chunk, Throwable error) {
+        inFlight--;
+        request.requests.remove(request.chunkKey);
+        if (error != null) {
+            failures++;
+            if (plugin.getConfig().getBoolean("debug", false)) {
+                plugin.getLogger().warning("Async preload failed in " + request.world.getName() + ": " + error.getMessage());
+            }
+        } else if (chunk != null) {
+            request.preloaded.put(request.chunkKey, System.currentTimeMillis());
+            retention.retain(request.world, chunk.getX(), chunk.getZ());
+        }
+        pump();
+    }
+
+    @Override
+    public void purgeStale() {
+        Iterator<Request> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            Request request = iterator.next();
+            if (!epochs.isCurrent(request.requests.get(request.chunkKey))) {
+                request.requests.remove(request.chunkKey);
+                iterator.remove();
+                cancelled++;
+            }
+        }
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight + pending.size();
+    }
+
+    @Override
+    public int getQueueLength() {
+        return pending.size();
+    }
+
+    @Override
+    public double getAverageWaitMillis() {
+        return dispatched == 0 ? 0.0 : totalWaitMillis / (double) dispatched;
+    }
+
+    @Override
+    public long getMaxWaitMillis() {
+        return maxObservedWaitMillis;
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped;
+    }
+
+    @Override
+    public long getCancelled() {
+        return cancelled;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    @Override
+    public void clear() {
+        pending.clear();
+        requested.clear();
+    }
+
+    private static class Request {
+        final World world;
+        final ChunkTable requests;
+        final long chunkKey;
+        final ChunkTable preloaded;
+        final long enqueuedAt;
+
+        Request(World world, ChunkTable requests, long chunkKey, ChunkTable preloaded, long enqueuedAt) {
+            this.world = world;
+            this.requests = requests;
+            this.chunkKey = chunkKey;
+            this.preloaded = preloaded;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
\ No newline at end of file
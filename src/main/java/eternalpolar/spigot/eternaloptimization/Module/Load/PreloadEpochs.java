@@ -0,0 +1,64 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-player preload generations. Every new preload request advances the
+ * player's epoch and is tagged with a ticket (slot and epoch packed into a long);
+ * queued work whose ticket is no longer current is dropped before it touches the
+ * world. Slots are reused after a player leaves, but their epochs keep counting,
+ * so old tickets never become current again. Main thread only.
+ */
+public class PreloadEpochs {
+
+    /** Ticket for work that does not belong to any player and is never superseded. */
+    public static final long UNOWNED = -1L;
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private int[] epochs = new int[16];
+    private int nextSlot;
+
+    public long advance(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.poll();
+            if (slot >= epochs.length) {
+                epochs = Arrays.copyOf(epochs, epochs.length << 1);
+            }
+            slots.put(playerId, slot);
+        }
+        return ticket(slot, ++epochs[slot]);
+    }
+
+    public boolean isCurrent(long ticket) {
+        if (ticket < 0) return ticket == UNOWNED;
+        int slot = (int) (ticket >>> 32);
+        return slot < epochs.length && epochs[slot] == (int) ticket;
+    }
+
+    /** Invalidates every outstanding ticket of the player and frees the slot. */
+    public void release(UUID playerId) {
+        Integer slot = slots.remove(playerId);
+        if (slot != null) {
+            epochs[slot]++;
+            freeSlots.add(slot);
+        }
+    }
+
+    public void clear() {
+        for (Integer slot : slots.values()) {
+            epochs[slot]++;
+            freeSlots.add(slot);
+        }
+        slots.clear();
+    }
+
+    private static long ticket(int slot, int epoch) {
+        return ((long) slot << 32) | (epoch & 0xFFFFFFFFL);
+    }
+}
\ No newline at end of file
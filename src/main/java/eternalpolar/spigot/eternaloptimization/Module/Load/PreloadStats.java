@@ -0,0 +1,67 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+
+/**
+ * Preload outcome counters for one world. A preloaded chunk is a hit once a player
+ * enters it and a miss if it leaves the preloaded set without ever being entered.
+ * Window counters feed the auto-tuner and are reset after every decision.
+ */
+public class PreloadStats {
+
+    private final ChunkTable entered = new ChunkTable(256);
+    private long hits;
+    private long misses;
+    private long windowHits;
+    private long windowMisses;
+    private long totalFirstEntryMillis;
+
+    public void recordEntry(long chunkKey, long preloadedAt, long now) {
+        if (entered.putIfAbsent(chunkKey, now) != ChunkTable.NO_VALUE) return;
+        hits++;
+        windowHits++;
+        totalFirstEntryMillis += Math.max(0, now - preloadedAt);
+    }
+
+    public void recordRemoval(long chunkKey) {
+        if (entered.remove(chunkKey) != ChunkTable.NO_VALUE) return;
+        misses++;
+        windowMisses++;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /** Share of resolved preloads that were entered, 0.0 - 1.0. */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : hits / (double) total;
+    }
+
+    public double getAverageFirstEntryMillis() {
+        return hits == 0 ? 0.0 : totalFirstEntryMillis / (double) hits;
+    }
+
+    long getWindowSamples() {
+        return windowHits + windowMisses;
+    }
+
+    double getWindowHitRate() {
+        long total = windowHits + windowMisses;
+        return total == 0 ? 0.0 : windowHits / (double) total;
+    }
+
+    void resetWindow() {
+        windowHits = 0;
+        windowMisses = 0;
+    }
+
+    public void clear() {
+        entered.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,229 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.WorldAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.World;
+
+import java.util.Arrays;
+
+/**
+ * Fallback backend: one global de-duplicated FIFO of chunk keys shared by every
+ * player, drained on the main thread at most chunks-per-tick per tick inside the
+ * chunk-preload lane budget. When full, or when a key waited too long, the oldest
+ * requests are dropped since the player has most likely moved on.
+ */
+public class SyncChunkPreloadBackend implements ChunkPreloadBackend {
+
+    private final TickScheduler.Lane lane;
+    private final PreloadEpochs epochs;
+    private final boolean generate;
+    private final ChunkRetention retention;
+    private final int chunksPerTick;
+    private final int maxQueueSize;
+    private final long maxWaitMillis;
+    // chunk key -> ticket of the latest request that wanted it
+    private final WorldChunkTables queued = new WorldChunkTables();
+    private ChunkTable[] targets = new ChunkTable[0];
+    private long[] queueKeys = new long[64];
+    private int[] queueWorlds = new int[64];
+    private long[] queueTimes = new long[64];
+    private int head;
+    private int queueSize;
+    private boolean draining;
+    private long loaded;
+    private long totalWaitMillis;
+    private long maxObservedWaitMillis;
+    private long dropped;
+    private long cancelled;
+
+    public SyncChunkPreloadBackend(TickScheduler.Lane lane, PreloadEpochs epochs, ChunkRetention retention, boolean generate, int chunksPerTick, int maxQueueSize, long maxWaitMillis) {
+        this.lane = lane;
+        this.epochs = epochs;
+        this.generate = generate;
+        this.retention = retention;
+        this.chunksPerTick = Math.max(1, chunksPerTick);
+        this.maxQueueSize = Math.max(1, maxQueueSize);
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @Override
+    public String getName() {
+        return "sync";
+    }
+
+    @Override
+    public void load(World world, int worldIndex, long[] chunkKeys, int count, ChunkTable preloaded, long ticket) {
+        if (count == 0) return;
+
+        if (worldIndex >= targets.length) {
+            targets = Arrays.copyOf(targets, worldIndex + 1);
+        }
+        targets[worldIndex] = preloaded;
+
+        ChunkTable worldQueued = queued.getOrCreate(worldIndex);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            // already queued: the newer request takes it over so it survives the older one's cancellation,
+            // unless it is an unowned warmup, which must not keep a player's superseded preload alive
+            if (worldQueued.putIfAbsent(chunkKeys[i], ticket) != ChunkTable.NO_VALUE) {
+                if (ticket != PreloadEpochs.UNOWNED) {
+                    worldQueued.put(chunkKeys[i], ticket);
+                }
+                continue;
+            }
+
+            if (queueSize == maxQueueSize) {
+                ChunkTable staleQueued = queued.get(queueWorlds[head]);
+                long staleKey = poll();
+                if (staleQueued != null) {
+                    staleQueued.remove(staleKey);
+                }
+                dropped++;
+            }
+            offer(worldIndex, chunkKeys[i], now);
+        }
+
+        if (!draining) {
+            draining = true;
+            lane.submit(TickScheduler.PRIORITY_LOW, 0, this::drain);
+        }
+    }
+
+    private boolean drain(long deadlineNanos) {
+        long now = System.currentTimeMillis();
+        int loadedThisTick = 0;
+
+        while (queueSize > 0 && loadedThisTick < chunksPerTick && System.nanoTime() < deadlineNanos) {
+            int worldIndex = queueWorlds[head];
+            long waited = now - queueTimes[head];
+            long chunkKey = poll();
+
+            ChunkTable worldQueued = queued.get(worldIndex);
+            long ticket = worldQueued != null ? worldQueued.remove(chunkKey) : ChunkTable.NO_VALUE;
+            if (ticket == ChunkTable.NO_VALUE) continue;
+            if (!epochs.isCurrent(ticket)) {
+                cancelled++;
+                continue;
+            }
+            if (waited > maxWaitMillis) {
+                dropped++;
+                continue;
+            }
+
+            World world = WorldIndex.get(worldIndex);
+            ChunkTable preloaded = worldIndex < targets.length ? targets[worldIndex] : null;
+            if (world == null || preloaded == null) continue;
+
+            int x = ChunkTable.keyX(chunkKey);
+            int z = ChunkTable.keyZ(chunkKey);
+            if (WorldAccess.isChunkLoaded(world, x, z)) continue;
+
+            WorldAccess.loadChunk(world, x, z, generate);
+            preloaded.put(chunkKey, System.currentTimeMillis());
+            retention.retain(world, x, z);
+            loadedThisTick++;
+            loaded++;
+            totalWaitMillis += waited;
+            maxObservedWaitMillis = Math.max(maxObservedWaitMillis, waited);
+        }
+
+        if (queueSize > 0) return false;
+        draining = false;
+        return true;
+    }
+
+    @Override
+    public void purgeStale() {
+        int mask = queueKeys.length - 1;
+        int kept = 0;
+        for (int i = 0; i < queueSize; i++) {
+            int from = (head + i) & mask;
+            long chunkKey = queueKeys[from];
+            ChunkTable worldQueued = queued.get(queueWorlds[from]);
+            long ticket = worldQueued != null ? worldQueued.get(chunkKey) : ChunkTable.NO_VALUE;
+            if (ticket == ChunkTable.NO_VALUE) continue;
+            if (!epochs.isCurrent(ticket)) {
+                worldQueued.remove(chunkKey);
+                cancelled++;
+                continue;
+            }
+            int to = (head + kept++) & mask;
+            queueKeys[to] = chunkKey;
+            queueWorlds[to] = queueWorlds[from];
+            queueTimes[to] = queueTimes[from];
+        }
+        queueSize = kept;
+    }
+
+    private void offer(int worldIndex, long chunkKey, long enqueuedAt) {
+        if (queueSize == queueKeys.length) {
+            int capacity = queueKeys.length << 1;
+            long[] keys = new long[capacity];
+            int[] worlds = new int[capacity];
+            long[] times = new long[capacity];
+            for (int i = 0; i < queueSize; i++) {
+                int index = (head + i) & (queueKeys.length - 1);
+                keys[i] = queueKeys[index];
+                worlds[i] = queueWorlds[index];
+                times[i] = queueTimes[index];
+            }
+            queueKeys = keys;
+            queueWorlds = worlds;
+            queueTimes = times;
+            head = 0;
+        }
+        int tail = (head + queueSize) & (queueKeys.length - 1);
+        queueKeys[tail] = chunkKey;
+        queueWorlds[tail] = worldIndex;
+        queueTimes[tail] = enqueuedAt;
+        queueSize++;
+    }
+
+    private long poll() {
+        long chunkKey = queueKeys[head];
+        head = (head + 1) & (queueKeys.length - 1);
+        queueSize--;
+        return chunkKey;
+    }
+
+    @Override
+    public int getInFlight() {
+        return queueSize;
+    }
+
+    @Override
+    public int getQueueLength() {
+        return queueSize;
+    }
+
+    @Override
+    public double getAverageWaitMillis() {
+        return loaded == 0 ? 0.0 : totalWaitMillis / (double) loaded;
+    }
+
+    @Override
+    public long getMaxWaitMillis() {
+        return maxObservedWaitMillis;
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped;
+    }
+
+    @Override
+    public long getCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void clear() {
+        queued.clear();
+        targets = new ChunkTable[0];
+        head = 0;
+        queueSize = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldChunkTables;
+
+/**
+ * Per-area unload delay extension. Every thrash (a chunk reloaded shortly after we
+ * evicted it) doubles the delay of its 4x4 chunk area, up to a cap; one doubling is
+ * forgotten per decay period without thrash. Values pack the last thrash time and
+ * the level, so the level decays lazily and lookups stay a single table probe.
+ */
+public class ThrashHysteresis {
+
+    private static final int AREA_SHIFT = 2;
+    private static final int LEVEL_BITS = 4;
+    private static final long LEVEL_MASK = (1L << LEVEL_BITS) - 1;
+
+    private final WorldChunkTables areas = new WorldChunkTables();
+    private volatile int maxLevel;
+    private volatile long decayMillis;
+
+    public void configure(int maxDoublings, long decayMillis) {
+        this.maxLevel = (int) Math.max(0, Math.min(LEVEL_MASK, maxDoublings));
+        this.decayMillis = Math.max(1000L, decayMillis);
+    }
+
+    public void recordThrash(int worldIndex, long chunkKey, long now) {
+        if (maxLevel == 0) return;
+
+        ChunkTable table = areas.getOrCreate(worldIndex);
+        long areaKey = areaKey(chunkKey);
+        int level = Math.min(maxLevel, level(table.get(areaKey), now) + 1);
+        table.put(areaKey, (now << LEVEL_BITS) | level);
+    }
+
+    // Safe off the main thread: ChunkTable is synchronized and the settings are volatile.
+    public long extend(int worldIndex, long chunkKey, long delayMillis, long now) {
+        ChunkTable table = areas.get(worldIndex);
+        if (table == null) return delayMillis;
+
+        int level = level(table.get(areaKey(chunkKey)), now);
+        return level > 0 ? delayMillis << level : delayMillis;
+    }
+
+    public void prune(int worldIndex, long now) {
+        ChunkTable table = areas.get(worldIndex);
+        if (table != null && !table.isEmpty()) {
+            table.removeIf((areaKey, value) -> level(value, now) == 0);
+        }
+    }
+
+    public int getExtendedAreas(int worldIndex) {
+        return areas.size(worldIndex);
+    }
+
+    public void clear() {
+        areas.clear();
+    }
+
+    private int level(long value, long now) {
+        if (value == ChunkTable.NO_VALUE) return 0;
+
+        int level = (int) Math.min(maxLevel, value & LEVEL_MASK);
+        long decayed = (now - (value >>> LEVEL_BITS)) / decayMillis;
+        return (int) Math.max(0, level - decayed);
+    }
+
+    private static long areaKey(long chunkKey) {
+        return ChunkTable.key(ChunkTable.keyX(chunkKey) >> AREA_SHIFT, ChunkTable.keyZ(chunkKey) >> AREA_SHIFT);
+    }
+}
\ No newline at end of file
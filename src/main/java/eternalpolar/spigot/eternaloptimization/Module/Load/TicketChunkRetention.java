@@ -0,0 +1,47 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.WorldAccess;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+/**
+ * 1.14+ retention: a plugin chunk ticket keeps a preloaded chunk from being unloaded
+ * by the server before it expires. Releasing only drops our ticket; the server unloads
+ * the chunk on its own schedule once no player or other ticket holds it, and saves it
+ * only if it changed.
+ */
+public class TicketChunkRetention implements ChunkRetention {
+
+    private final EternalOptimization plugin;
+
+    public TicketChunkRetention(EternalOptimization plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public String getName() {
+        return "tickets";
+    }
+
+    @Override
+    public void retain(World world, int x, int z) {
+        // adding a ticket to a missing chunk would load or even generate it
+        if (world.isChunkLoaded(x, z)) {
+            WorldAccess.addPluginChunkTicket(world, x, z, plugin);
+        }
+    }
+
+    @Override
+    public boolean release(World world, int worldIndex, int x, int z) {
+        WorldAccess.removePluginChunkTicket(world, x, z, plugin);
+        return true;
+    }
+
+    @Override
+    public void releaseAll() {
+        for (World world : Bukkit.getWorlds()) {
+            WorldAccess.removePluginChunkTickets(world, plugin);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.ChunkTable;
+import eternalpolar.spigot.eternaloptimization.Utils.TickScheduler;
+import eternalpolar.spigot.eternaloptimization.Utils.WorldIndex;
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Collects unload candidates per world and 32x32 region, then saves them one region
+ * file at a time. A world is flushed once its window has passed and not right after
+ * it was saved, one world at a time, at most max-unloads-per-tick chunks per tick.
+ */
+public class UnloadBatcher implements TickScheduler.Work {
+
+    public interface Unloader {
+        /** Re-checks the chunk and unloads it; returns whether it was unloaded. */
+        boolean unload(World world, int worldIndex, long chunkKey);
+    }
+
+    private final TickScheduler scheduler;
+    private final TickScheduler.Lane lane;
+    private final Unloader unloader;
+    private WorldBatch[] worlds = new WorldBatch[0];
+    private boolean active;
+    private int flushingWorld = -1;
+    private RegionBatch draining;
+
+    private int maxPerTick;
+    private long flushWindowTicks;
+    private long saveBackoffTicks;
+
+    private long flushedChunks;
+    private long flushedRegions;
+
+    public UnloadBatcher(EternalOptimization plugin, Unloader unloader) {
+        this.scheduler = plugin.getTickScheduler();
+        this.lane = scheduler.lane("chunk-unload");
+        this.unloader = unloader;
+    }
+
+    public void configure(int maxPerTick, int flushWindowSeconds, int saveBackoffSeconds) {
+        this.maxPerTick = Math.max(1, maxPerTick);
+        this.flushWindowTicks = Math.max(0, flushWindowSeconds) * 20L;
+        this.saveBackoffTicks = Math.max(0, saveBackoffSeconds) * 20L;
+    }
+
+    public void enqueue(int worldIndex, long chunkKey) {
+        WorldBatch batch = batch(worldIndex);
+        long tick = scheduler.getCurrentTick();
+        if (batch.queued.putIfAbsent(chunkKey, tick) != ChunkTable.NO_VALUE) return;
+
+        if (batch.regions.isEmpty()) {
+            batch.windowStart = tick;
+        }
+        long regionKey = ChunkTable.key(ChunkTable.keyX(chunkKey) >> 5, ChunkTable.keyZ(chunkKey) >> 5);
+        batch.regions.computeIfAbsent(regionKey, key -> new RegionBatch()).add(chunkKey);
+
+        if (!active) {
+            active = true;
+            lane.submit(TickScheduler.PRIORITY_LOW, 0, this);
+        }
+    }
+
+    public void onWorldSaved(int worldIndex) {
+        batch(worldIndex).lastSaveTick = scheduler.getCurrentTick();
+    }
+
+    @Override
+    public boolean run(long deadlineNanos) {
+        long tick = scheduler.getCurrentTick();
+        if (flushingWorld < 0 && !pickWorld(tick)) {
+            // keep polling while candidates wait for their window; stop once none are left
+            active = hasQueued();
+            return !active;
+        }
+
+        WorldBatch batch = worlds[flushingWorld];
+        World world = WorldIndex.get(flushingWorld);
+        int attempts = 0;
+        while (attempts < maxPerTick && System.nanoTime() < deadlineNanos) {
+            if (draining == null || draining.isEmpty()) {
+                draining = batch.takeLargestRegion();
+                if (draining == null) {
+                    // candidates that arrived during the flush wait for a fresh window
+                    batch.windowStart = tick;
+                    flushingWorld = -1;
+                    break;
+                }
+                flushedRegions++;
+            }
+
+            long chunkKey = draining.pop();
+            batch.queued.remove(chunkKey);
+            attempts++;
+            if (world != null && unloader.unload(world, flushingWorld, chunkKey)) {
+                flushedChunks++;
+            }
+        }
+        return false;
+    }
+
+    private boolean pickWorld(long tick) {
+        for (int worldIndex = 0; worldIndex < worlds.length; worldIndex++) {
+            WorldBatch batch = worlds[worldIndex];
+            if (batch == null || batch.regions.isEmpty()) continue;
+            if (tick - batch.windowStart < flushWindowTicks || tick - batch.lastSaveTick < saveBackoffTicks) continue;
+
+            flushingWorld = worldIndex;
+            draining = null;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean hasQueued() {
+        for (WorldBatch batch : worlds) {
+            if (batch != null && !batch.regions.isEmpty()) return true;
+        }
+        return false;
+    }
+
+    private WorldBatch batch(int worldIndex) {
+        if (worldIndex >= worlds.length) {
+            worlds = Arrays.copyOf(worlds, Math.max(worldIndex + 1, WorldIndex.size()));
+        }
+        WorldBatch batch = worlds[worldIndex];
+        if (batch == null) {
+            batch = new WorldBatch();
+            worlds[worldIndex] = batch;
+        }
+        return batch;
+    }
+
+    public int getQueued() {
+        int queued = 0;
+        for (WorldBatch batch : worlds) {
+            if (batch != null) {
+                queued += batch.queued.size();
+            }
+        }
+        return queued;
+    }
+
+    public long getFlushedChunks() {
+        return flushedChunks;
+    }
+
+    public long getFlushedRegions() {
+        return flushedRegions;
+    }
+
+    public void clear() {
+        for (WorldBatch batch : worlds) {
+            if (batch != null) {
+                batch.queued.clear();
+                batch.regions.clear();
+            }
+        }
+        flushingWorld = -1;
+        draining = null;
+    }
+
+    private static class WorldBatch {
+        final ChunkTable queued = new ChunkTable(256);
+        final Map<Long, RegionBatch> regions = new HashMap<>();
+        long windowStart;
+        long lastSaveTick = Long.MIN_VALUE / 2;
+
+        RegionBatch takeLargestRegion() {
+            Map.Entry<Long, RegionBatch> largest = null;
+            for (Map.Entry<Long, RegionBatch> entry : regions.entrySet()) {
+                if (largest == null || entry.getValue().size > largest.getValue().size) {
+                    largest = entry;
+                }
+            }
+            if (largest == null) return null;
+
+            regions.remove(largest.getKey());
+            return largest.getValue();
+        }
+    }
+
+    private static class RegionBatch {
+        long[] keys = new long[16];
+        int size;
+
+        void add(long chunkKey) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size << 1);
+            }
+            keys[size++] = chunkKey;
+        }
+
+        long pop() {
+            return keys[--size];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package eternalpolar.spigot.eternaloptimization.Module.Load;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.ChunkAccess;
+import eternalpolar.spigot.eternaloptimization.Utils.Compat.WorldAccess;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+
+/**
+ * Pre-1.14 retention: a loaded chunk stays until something unloads it, so an expired
+ * preload is unloaded explicitly unless a player or force load still needs it.
+ */
+public class UnloadChunkRetention implements ChunkRetention {
+
+    private final EternalOptimization plugin;
+    private final boolean legacyChunkApi;
+
+    public UnloadChunkRetention(EternalOptimization plugin, boolean legacyChunkApi) {
+        this.plugin = plugin;
+        this.legacyChunkApi = legacyChunkApi;
+    }
+
+    @Override
+    public String getName() {
+        return "unload";
+    }
+
+    @Override
+    public void retain(World world, int x, int z) {
+    }
+
+    @Override
+    public boolean release(World world, int worldIndex, int x, int z) {
+        if (!world.isChunkLoaded(x, z)) return true;
+        if (plugin.getChunkOccupancy().isOccupied(worldIndex, x, z) || WorldAccess.isChunkForceLoaded(world, x, z)) return false;
+
+        Chunk chunk = world.getChunkAt(x, z);
+        // preloaded chunks are only dropped unsaved when dirty tracking knows nobody changed them
+        ChunkAccess.unload(chunk, legacyChunkApi || plugin.getModificationTracker().needsSave(worldIndex, chunk));
+        return true;
+    }
+
+    @Override
+    public void releaseAll() {
+    }
+}
\ No newline at end of file
@@ -20,23 +20,34 @@ import com.comphenix.protocol.events.PacketEvent;
 import java.io.File;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 public class PacketsReceiveOptimizated implements Listener {
 
+    private static final int CATEGORY_NONE = -1;
+    private static final int CATEGORY_MOVE = 0;
+    private static final int CATEGORY_BLOCK = 1;
+    private static final int CATEGORY_CHAT = 2;
+    private static final int CATEGORY_ANIMATION = 3;
+    private static final int CATEGORY_USE_ENTITY = 4;
+    private static final int CATEGORY_HELD_ITEM = 5;
+    private static final int CATEGORY_CLIENT_COMMAND = 6;
+    private static final int CATEGORY_COUNT = 7;
+    private static final long[] CATEGORY_WINDOW_MILLIS = {50, 50, 1000, 50, 50, 100, 50};
+
     private final EternalOptimization plugin;
     private final ProtocolManager protocolManager;
     private final Map<Player, PacketHandler> playerHandlers = new ConcurrentHashMap<>();
-    private final Map<String, Integer> packetCounts = new ConcurrentHashMap<>();
-    private final Map<String, Integer> blockedPacketCounts = new ConcurrentHashMap<>();
+    // Built once before the listener is registered and read-only afterwards, so the
+    // Netty threads classify a packet with one map lookup and array reads.
+    private final Map<PacketType, Integer> packetIndex = new HashMap<>();
+    private PacketType[] packetTypes = new PacketType[0];
+    private int[] packetCategories = new int[0];
+    private AtomicIntegerArray packetCounts = new AtomicIntegerArray(0);
+    private AtomicIntegerArray blockedPacketCounts = new AtomicIntegerArray(0);
+    private final int[] thresholds = new int[CATEGORY_COUNT];
 
     private boolean enabled;
-    private int entityMoveThreshold;
-    private int blockChangeThreshold;
-    private int chatMessageThreshold;
-    private int animationThreshold;
-    private int armSwingThreshold;
-    private int heldItemChangeThreshold;
-    private int playerActionThreshold;
     private int packetLimit;
     private long packetResetInterval;
 
@@ -56,6 +67,7 @@ public class PacketsReceiveOptimizated implements Listener {
         if (enabled) {
             try {
                 Bukkit.getPluginManager().registerEvents(this, plugin);
+                indexPacketTypes();
                 registerPacketListeners();
                 startPacketResetTask();
                 plugin.getLogger().info("Packet optimization enabled successfully!");
@@ -80,13 +92,13 @@ public class PacketsReceiveOptimizated implements Listener {
             packetConfig = YamlConfiguration.loadConfiguration(configFile);
 
             enabled = packetConfig.getBoolean("enabled", true);
-            entityMoveThreshold = packetConfig.getInt("entity-move-threshold", 5);
-            blockChangeThreshold = packetConfig.getInt("block-change-threshold", 10);
-            chatMessageThreshold = packetConfig.getInt("chat-message-threshold", 3);
-            animationThreshold = packetConfig.getInt("animation-threshold", 8);
-            armSwingThreshold = packetConfig.getInt("arm-swing-threshold", 6);
-            heldItemChangeThreshold = packetConfig.getInt("held-item-change-threshold", 4);
-            playerActionThreshold = packetConfig.getInt("player-action-threshold", 7);
+            thresholds[CATEGORY_MOVE] = packetConfig.getInt("entity-move-threshold", 5);
+            thresholds[CATEGORY_BLOCK] = packetConfig.getInt("block-change-threshold", 10);
+            thresholds[CATEGORY_CHAT] = packetConfig.getInt("chat-message-threshold", 3);
+            thresholds[CATEGORY_ANIMATION] = packetConfig.getInt("animation-threshold", 8);
+            thresholds[CATEGORY_USE_ENTITY] = packetConfig.getInt("arm-swing-threshold", 6);
+            thresholds[CATEGORY_HELD_ITEM] = packetConfig.getInt("held-item-change-threshold", 4);
+            thresholds[CATEGORY_CLIENT_COMMAND] = packetConfig.getInt("player-action-threshold", 7);
             packetLimit = packetConfig.getInt("packet-limit", 100);
             packetResetInterval = packetConfig.getLong("packet-reset-interval", 5);
 
@@ -98,19 +110,7 @@ public class PacketsReceiveOptimizated implements Listener {
     }
 
     private void registerPacketListeners() {
-        protocolManager.addPacketListener(new PacketAdapter(plugin, ListenerPriority.NORMAL,
-                PacketType.Play.Client.POSITION,
-                PacketType.Play.Client.POSITION_LOOK,
-                PacketType.Play.Client.LOOK,
-                PacketType.Play.Client.BLOCK_DIG,
-                PacketType.Play.Client.BLOCK_PLACE,
-                PacketType.Play.Client.CHAT,
-                PacketType.Play.Client.ARM_ANIMATION,
-                PacketType.Play.Client.USE_ENTITY,
-                PacketType.Play.Client.HELD_ITEM_SLOT,
-                PacketType.Play.Client.CLIENT_COMMAND,
-                PacketType.Play.Client.VEHICLE_MOVE,
-                PacketType.Play.Client.STEER_VEHICLE) {
+        protocolManager.addPacketListener(new PacketAdapter(plugin, ListenerPriority.NORMAL, packetTypes) {
 
             @Override
             public void onPacketReceiving(PacketEvent event) {
@@ -118,25 +118,53 @@ public class PacketsReceiveOptimizated implements Listener {
                     return;
                 }
 
-                Player player = event.getPlayer();
-                String packetType = event.getPacketType().name();
-
-                if (shouldOptimizePacket(packetType)) {
-                    PacketHandler handler = playerHandlers.get(player);
-                    if (handler != null) {
-                        if (handler.isPacketRateLimited(packetType)) {
-                            event.setCancelled(true);
-                            incrementBlockedPacketCount(packetType);
-                            return;
-                        }
+                Integer index = packetIndex.get(event.getPacketType());
+                if (index == null) {
+                    return;
+                }
+
+                int category = packetCategories[index];
+                if (category != CATEGORY_NONE) {
+                    PacketHandler handler = playerHandlers.get(event.getPlayer());
+                    if (handler != null && handler.isPacketRateLimited(category)) {
+                        event.setCancelled(true);
+                        blockedPacketCounts.incrementAndGet(index);
+                        return;
                     }
                 }
 
-                incrementPacketCount(packetType);
+                packetCounts.incrementAndGet(index);
             }
         });
     }
 
+    private void indexPacketTypes() {
+        indexPacketType(PacketType.Play.Client.POSITION, CATEGORY_MOVE);
+        indexPacketType(PacketType.Play.Client.POSITION_LOOK, CATEGORY_MOVE);
+        indexPacketType(PacketType.Play.Client.LOOK, CATEGORY_MOVE);
+        indexPacketType(PacketType.Play.Client.BLOCK_DIG, CATEGORY_BLOCK);
+        indexPacketType(PacketType.Play.Client.BLOCK_PLACE, CATEGORY_BLOCK);
+        indexPacketType(PacketType.Play.Client.CHAT, CATEGORY_CHAT);
+        indexPacketType(PacketType.Play.Client.ARM_ANIMATION, CATEGORY_ANIMATION);
+        indexPacketType(PacketType.Play.Client.USE_ENTITY, CATEGORY_USE_ENTITY);
+        indexPacketType(PacketType.Play.Client.HELD_ITEM_SLOT, CATEGORY_HELD_ITEM);
+        indexPacketType(PacketType.Play.Client.CLIENT_COMMAND, CATEGORY_CLIENT_COMMAND);
+        indexPacketType(PacketType.Play.Client.VEHICLE_MOVE, CATEGORY_NONE);
+        indexPacketType(PacketType.Play.Client.STEER_VEHICLE, CATEGORY_NONE);
+
+        packetCounts = new AtomicIntegerArray(packetTypes.length);
+        blockedPacketCounts = new AtomicIntegerArray(packetTypes.length);
+    }
+
+    private void indexPacketType(PacketType type, int category) {
+        int index = packetTypes.length;
+        packetTypes = Arrays.copyOf(packetTypes, index + 1);
+        packetCategories = Arrays.copyOf(packetCategories, index + 1);
+        packetTypes[index] = type;
+        packetCategories[index] = category;
+        packetIndex.put(type, index);
+    }
+
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         if (!enabled) return;
@@ -159,8 +187,10 @@ public class PacketsReceiveOptimizated implements Listener {
             for (PacketHandler handler : playerHandlers.values()) {
                 handler.resetCounters();
             }
-            packetCounts.clear();
-            blockedPacketCounts.clear();
+            for (int i = 0; i < packetTypes.length; i++) {
+                packetCounts.set(i, 0);
+                blockedPacketCounts.set(i, 0);
+            }
         }, 0, packetResetInterval * 20);
     }
 
@@ -172,167 +202,64 @@ public class PacketsReceiveOptimizated implements Listener {
         enabled = false;
     }
 
-    private boolean shouldOptimizePacket(String packetType) {
-        return packetType.contains("POSITION") ||
-                packetType.contains("LOOK") ||
-                packetType.contains("BLOCK_DIG") ||
-                packetType.contains("BLOCK_PLACE") ||
-                packetType.contains("CHAT") ||
-                packetType.contains("ANIMATION") ||
-                packetType.contains("USE_ENTITY") ||
-                packetType.contains("HELD_ITEM") ||
-                packetType.contains("CLIENT_COMMAND") ||
-                packetType.contains("VEHICLE_MOVE") ||
-                packetType.contains("STEER_VEHICLE");
-    }
-
-    private void incrementPacketCount(String packetType) {
-        packetCounts.put(packetType, packetCounts.getOrDefault(packetType, 0) + 1);
-    }
-
-    private void incrementBlockedPacketCount(String packetType) {
-        blockedPacketCounts.put(packetType, blockedPacketCounts.getOrDefault(packetType, 0) + 1);
-    }
-
     private class PacketHandler {
 
         private final Player player;
-        private final Map<String, Integer> packetCounters = new HashMap<>();
-        private long lastEntityMoveTime = 0;
-        private long lastBlockChangeTime = 0;
-        private long lastChatMessageTime = 0;
-        private long lastAnimationTime = 0;
-        private long lastArmSwingTime = 0;
-        private long lastHeldItemChangeTime = 0;
-        private long lastPlayerActionTime = 0;
+        private final int[] counts = new int[CATEGORY_COUNT];
+        private final long[] windowStarts = new long[CATEGORY_COUNT];
 
         public PacketHandler(Player player) {
             this.player = player;
         }
 
-        public boolean isPacketRateLimited(String packetType) {
+        public boolean isPacketRateLimited(int category) {
             long currentTime = System.currentTimeMillis();
 
-            if (packetType.contains("POSITION") || packetType.contains("LOOK")) {
-                if (currentTime - lastEntityMoveTime < 50) {
-                    int count = packetCounters.getOrDefault("move", 0) + 1;
-                    packetCounters.put("move", count);
-                    if (count > entityMoveThreshold) {
-                        return true;
-                    }
-                } else {
-                    packetCounters.put("move", 1);
-                    lastEntityMoveTime = currentTime;
-                }
-            }
-            else if (packetType.contains("BLOCK_DIG") || packetType.contains("BLOCK_PLACE")) {
-                if (currentTime - lastBlockChangeTime < 50) {
-                    int count = packetCounters.getOrDefault("block", 0) + 1;
-                    packetCounters.put("block", count);
-                    if (count > blockChangeThreshold) {
-                        return true;
-                    }
-                } else {
-                    packetCounters.put("block", 1);
-                    lastBlockChangeTime = currentTime;
-                }
-            }
-            else if (packetType.contains("CHAT")) {
-                if (currentTime - lastChatMessageTime < 1000) {
-                    int count = packetCounters.getOrDefault("chat", 0) + 1;
-                    packetCounters.put("chat", count);
-                    if (count > chatMessageThreshold) {
-                        return true;
-                    }
-                } else {
-                    packetCounters.put("chat", 1);
-                    lastChatMessageTime = currentTime;
-                }
+            if (currentTime - windowStarts[category] < CATEGORY_WINDOW_MILLIS[category]) {
+                return ++counts[category] > thresholds[category];
             }
-            else if (packetType.contains("ARM_ANIMATION")) {
-                if (currentTime - lastAnimationTime < 50) {
-                    int count = packetCounters.getOrDefault("animation", 0) + 1;
-                    packetCounters.put("animation", count);
-                    if (count > animationThreshold) {
-                        return true;
-                    }
-                } else {
-                    packetCounters.put("animation", 1);
-                    lastAnimationTime = currentTime;
-                }
-            }
-            else if (packetType.contains("USE_ENTITY")) {
-                if (currentTime - lastArmSwingTime < 50) {
-                    int count = packetCounters.getOrDefault("armswing", 0) + 1;
-                    packetCounters.put("armswing", count);
-                    if (count > armSwingThreshold) {
-                        return true;
-                    }
-                } else {
-                    packetCounters.put("armswing", 1);
-                    lastArmSwingTime = currentTime;
-                }
-            }
-            else if (packetType.contains("HELD_ITEM")) {
-                if (currentTime - lastHeldItemChangeTime < 100) {
-                    int count = packetCounters.getOrDefault("helditem", 0) + 1;
-                    packetCounters.put("helditem", count);
-                    if (count > heldItemChangeThreshold) {
-                        return true;
-                    }
-                } else {
-                    packetCounters.put("helditem", 1);
-                    lastHeldItemChangeTime = currentTime;
-                }
-            }
-            else if (packetType.contains("CLIENT_COMMAND")) {
-                if (currentTime - lastPlayerActionTime < 50) {
-                    int count = packetCounters.getOrDefault("playeraction", 0) + 1;
-                    packetCounters.put("playeraction", count);
-                    if (count > playerActionThreshold) {
-                        return true;
-                    }
-                } else {
-                    packetCounters.put("playeraction", 1);
-                    lastPlayerActionTime = currentTime;
-                }
-            }
-
+            counts[category] = 1;
+            windowStarts[category] = currentTime;
             return false;
         }
 
         public void resetCounters() {
-            packetCounters.clear();
-            lastEntityMoveTime = 0;
-            lastBlockChangeTime = 0;
-            lastChatMessageTime = 0;
-            lastAnimationTime = 0;
-            lastArmSwingTime = 0;
-            lastHeldItemChangeTime = 0;
-            lastPlayerActionTime = 0;
+            Arrays.fill(counts, 0);
+            Arrays.fill(windowStarts, 0);
         }
     }
 
     public Map<String, Integer> getPacketCounts() {
-        return new HashMap<>(packetCounts);
+        return toNamedCounts(packetCounts);
     }
 
     public Map<String, Integer> getBlockedPacketCounts() {
-        return new HashMap<>(blockedPacketCounts);
+        return toNamedCounts(blockedPacketCounts);
     }
 
-    public int getTotalProcessedPackets() {
-        int total = 0;
-        for (int count : packetCounts.values()) {
-            total += count;
+    private Map<String, Integer> toNamedCounts(AtomicIntegerArray counts) {
+        Map<String, Integer> named = new HashMap<>();
+        for (int i = 0; i < counts.length(); i++) {
+            int count = counts.get(i);
+            if (count > 0) {
+                named.put(packetTypes[i].name(), count);
+            }
         }
-        return total;
+        return named;
+    }
+
+    public int getTotalProcessedPackets() {
+        return sum(packetCounts);
     }
 
     public int getTotalBlockedPackets() {
+        return sum(blockedPacketCounts);
+    }
+
+    private static int sum(AtomicIntegerArray counts) {
         int total = 0;
-        for (int count : blockedPacketCounts.values()) {
-            total += count;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
         }
         return total;
     }
@@ -0,0 +1,87 @@
+package eternalpolar.spigot.eternaloptimization.Utils;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of (priority, chunk key) pairs stored in parallel primitive arrays.
+ * Not thread safe; entries are never updated in place, callers skip stale ones on pop.
+ */
+public class ChunkHeap {
+
+    private long[] priorities;
+    private long[] keys;
+    private int size;
+
+    public ChunkHeap() {
+        this(64);
+    }
+
+    public ChunkHeap(int initialCapacity) {
+        priorities = new long[Math.max(initialCapacity, 4)];
+        keys = new long[priorities.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void push(long priority, long key) {
+        if (size == priorities.length) {
+            int capacity = priorities.length << 1;
+            priorities = Arrays.copyOf(priorities, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] <= priority) break;
+            priorities[index] = priorities[parent];
+            keys[index] = keys[parent];
+            index = parent;
+        }
+        priorities[index] = priority;
+        keys[index] = key;
+    }
+
+    public long peekPriority() {
+        return priorities[0];
+    }
+
+    public long peekKey() {
+        return keys[0];
+    }
+
+    public void pop() {
+        if (--size == 0) return;
+        long priority = priorities[size];
+        long key = keys[size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && priorities[right] < priorities[child]) {
+                child = right;
+            }
+            if (priority <= priorities[child]) break;
+            priorities[index] = priorities[child];
+            keys[index] = keys[child];
+            index = child;
+        }
+        priorities[index] = priority;
+        keys[index] = key;
+    }
+
+    public void rebuild(ChunkTable source) {
+        clear();
+        source.forEach((key, value) -> push(value, key));
+    }
+}
\ No newline at end of file
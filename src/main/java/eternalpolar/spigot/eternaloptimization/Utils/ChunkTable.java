@@ -0,0 +1,275 @@
+package eternalpolar.spigot.eternaloptimization.Utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing {@code long -> long} table keyed by packed chunk coordinates.
+ * Linear probing with backward-shift deletion, so no tombstones and no boxing.
+ * All methods lock on the table; callbacks run while the lock is held.
+ */
+public class ChunkTable {
+
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    // x = Integer.MIN_VALUE is far outside any world border, so this key never occurs
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public ChunkTable() {
+        this(64);
+    }
+
+    public ChunkTable(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    public static int keyX(long key) {
+        return (int) (key >> 32);
+    }
+
+    public static int keyZ(long key) {
+        return (int) key;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public synchronized boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    public synchronized long get(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : NO_VALUE;
+    }
+
+    public synchronized long getOrDefault(long key, long defaultValue) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    public synchronized long put(long key, long value) {
+        checkKey(key);
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                long previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return NO_VALUE;
+    }
+
+    public synchronized long putIfAbsent(long key, long value) {
+        int index = indexOf(key);
+        if (index >= 0) return values[index];
+        put(key, value);
+        return NO_VALUE;
+    }
+
+    public synchronized long addTo(long key, long delta) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            return values[index] += delta;
+        }
+        put(key, delta);
+        return delta;
+    }
+
+    public synchronized long remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) return NO_VALUE;
+        long previous = values[index];
+        shiftOut(index);
+        return previous;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    public synchronized void forEach(EntryConsumer consumer) {
+        long[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public synchronized int removeIf(EntryPredicate predicate) {
+        if (size == 0) return 0;
+
+        // Start right after an empty slot: probe runs never wrap past it, so
+        // backward shifts only pull entries we have not visited yet.
+        int start = 0;
+        while (keys[start] != EMPTY) {
+            start++;
+        }
+
+        int removed = 0;
+        int slot = (start + 1) & mask;
+        for (int visited = 1; visited < keys.length; ) {
+            long key = keys[slot];
+            if (key != EMPTY && predicate.test(key, values[slot])) {
+                shiftOut(slot);
+                removed++;
+                continue;
+            }
+            slot = (slot + 1) & mask;
+            visited++;
+        }
+        return removed;
+    }
+
+    public synchronized int copyTo(long[] keysOut, long[] valuesOut) {
+        int count = 0;
+        for (int i = 0; i < keys.length && count < keysOut.length; i++) {
+            if (keys[i] != EMPTY) {
+                keysOut[count] = keys[i];
+                if (valuesOut != null) {
+                    valuesOut[count] = values[i];
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static void sortByValue(long[] keys, long[] values, int length) {
+        sortByValue(keys, values, 0, length - 1);
+    }
+
+    private static void sortByValue(long[] keys, long[] values, int low, int high) {
+        while (low < high) {
+            long pivot = values[(low + high) >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (values[i] < pivot) i++;
+                while (values[j] > pivot) j--;
+                if (i <= j) {
+                    swap(keys, i, j);
+                    swap(values, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (j - low < high - i) {
+                sortByValue(keys, values, low, j);
+                low = i;
+            } else {
+                sortByValue(keys, values, i, high);
+                high = j;
+            }
+        }
+    }
+
+    private static void swap(long[] array, int i, int j) {
+        long tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    private int indexOf(long key) {
+        if (key == EMPTY) return -1;
+        int slot = slot(key);
+        long current;
+        while ((current = keys[slot]) != EMPTY) {
+            if (current == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftOut(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        long key;
+        while ((key = keys[next]) != EMPTY) {
+            int ideal = slot(key);
+            // move the entry back if the gap lies on its probe path
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        size--;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == EMPTY) continue;
+            int slot = slot(key);
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+            size++;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        size = 0;
+        resizeAt = Math.max(1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 4) / LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Reserved chunk key: " + key);
+        }
+    }
+
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    public interface EntryPredicate {
+        boolean test(long key, long value);
+    }
+}
\ No newline at end of file
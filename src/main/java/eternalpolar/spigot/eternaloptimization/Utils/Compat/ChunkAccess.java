@@ -0,0 +1,32 @@
+package eternalpolar.spigot.eternaloptimization.Utils.Compat;
+
+import org.bukkit.Chunk;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+public final class ChunkAccess {
+
+    private static final MethodHandle IS_FORCE_LOADED =
+            ServerCompat.findVirtual(Chunk.class, "isForceLoaded", MethodType.methodType(boolean.class));
+
+    private ChunkAccess() {
+    }
+
+    public static boolean supportsForceLoading() {
+        return IS_FORCE_LOADED != null;
+    }
+
+    public static boolean isForceLoaded(Chunk chunk) {
+        if (IS_FORCE_LOADED == null) return false;
+        try {
+            return (boolean) IS_FORCE_LOADED.invokeExact(chunk);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public static boolean unload(Chunk chunk, boolean save) {
+        return chunk.unload(save);
+    }
+}
\ No newline at end of file
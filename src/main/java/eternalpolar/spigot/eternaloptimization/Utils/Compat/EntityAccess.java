@@ -0,0 +1,99 @@
+package eternalpolar.spigot.eternaloptimization.Utils.Compat;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.Set;
+
+public final class EntityAccess {
+
+    // 1.9+
+    private static final MethodHandle HAS_AI =
+            ServerCompat.findVirtual(LivingEntity.class, "hasAI", MethodType.methodType(boolean.class));
+    private static final MethodHandle SET_AI =
+            ServerCompat.findVirtual(LivingEntity.class, "setAI", MethodType.methodType(void.class, boolean.class));
+    private static final MethodHandle SET_COLLIDABLE =
+            ServerCompat.findVirtual(LivingEntity.class, "setCollidable", MethodType.methodType(void.class, boolean.class));
+    private static final MethodHandle IS_GLIDING =
+            ServerCompat.findVirtual(LivingEntity.class, "isGliding", MethodType.methodType(boolean.class));
+    // 1.10+
+    private static final MethodHandle GET_SCOREBOARD_TAGS =
+            ServerCompat.findVirtual(Entity.class, "getScoreboardTags", MethodType.methodType(Set.class));
+    private static final MethodHandle ADD_SCOREBOARD_TAG =
+            ServerCompat.findVirtual(Entity.class, "addScoreboardTag", MethodType.methodType(boolean.class, String.class));
+    private static final MethodHandle REMOVE_SCOREBOARD_TAG =
+            ServerCompat.findVirtual(Entity.class, "removeScoreboardTag", MethodType.methodType(boolean.class, String.class));
+
+    private EntityAccess() {
+    }
+
+    /** AI toggling, collision toggling and scoreboard tags are all available. */
+    public static boolean supportsAiToggling() {
+        return HAS_AI != null && SET_AI != null && SET_COLLIDABLE != null
+                && GET_SCOREBOARD_TAGS != null && ADD_SCOREBOARD_TAG != null && REMOVE_SCOREBOARD_TAG != null;
+    }
+
+    public static boolean hasAI(LivingEntity entity) {
+        if (HAS_AI == null) return true;
+        try {
+            return (boolean) HAS_AI.invokeExact(entity);
+        } catch (Throwable t) {
+            return true;
+        }
+    }
+
+    public static void setAI(LivingEntity entity, boolean ai) {
+        if (SET_AI == null) return;
+        try {
+            SET_AI.invokeExact(entity, ai);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    public static void setCollidable(LivingEntity entity, boolean collidable) {
+        if (SET_COLLIDABLE == null) return;
+        try {
+            SET_COLLIDABLE.invokeExact(entity, collidable);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    /** Elytra flight; always false before 1.9. */
+    public static boolean isGliding(LivingEntity entity) {
+        if (IS_GLIDING == null) return false;
+        try {
+            return (boolean) IS_GLIDING.invokeExact(entity);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public static boolean hasScoreboardTag(Entity entity, String tag) {
+        if (GET_SCOREBOARD_TAGS == null) return false;
+        try {
+            return ((Set<?>) GET_SCOREBOARD_TAGS.invokeExact(entity)).contains(tag);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public static boolean addScoreboardTag(Entity entity, String tag) {
+        if (ADD_SCOREBOARD_TAG == null) return false;
+        try {
+            return (boolean) ADD_SCOREBOARD_TAG.invokeExact(entity, tag);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public static boolean removeScoreboardTag(Entity entity, String tag) {
+        if (REMOVE_SCOREBOARD_TAG == null) return false;
+        try {
+            return (boolean) REMOVE_SCOREBOARD_TAG.invokeExact(entity, tag);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+}
\ No newline at end of file
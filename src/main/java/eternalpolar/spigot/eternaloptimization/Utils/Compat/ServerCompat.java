@@ -0,0 +1,91 @@
+package eternalpolar.spigot.eternaloptimization.Utils.Compat;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Probes the running server once: version numbers and optional API handles.
+ * Lookups that fail resolve to {@code null} so callers can fall back cheaply.
+ */
+public final class ServerCompat {
+
+    private static final int MINOR_VERSION;
+    private static final int PATCH_VERSION;
+    private static final boolean PAPER;
+    // Paper only
+    private static final MethodHandle GET_AVERAGE_TICK_TIME =
+            findVirtual(Server.class, "getAverageTickTime", MethodType.methodType(double.class));
+
+    static {
+        int[] version = parseVersion(Bukkit.getBukkitVersion());
+        MINOR_VERSION = version[0];
+        PATCH_VERSION = version[1];
+        PAPER = hasClass("com.destroystokyo.paper.PaperConfig") || hasClass("io.papermc.paper.configuration.Configuration");
+    }
+
+    private ServerCompat() {
+    }
+
+    public static int getMinorVersion() {
+        return MINOR_VERSION;
+    }
+
+    public static int getPatchVersion() {
+        return PATCH_VERSION;
+    }
+
+    public static boolean isAtLeast(int minor) {
+        return MINOR_VERSION >= minor;
+    }
+
+    public static boolean isPaper() {
+        return PAPER;
+    }
+
+    /** Paper's average milliseconds per tick, or -1 when the server does not expose it. */
+    public static double getAverageTickTime() {
+        if (GET_AVERAGE_TICK_TIME == null) return -1;
+        try {
+            return (double) GET_AVERAGE_TICK_TIME.invokeExact(Bukkit.getServer());
+        } catch (Throwable t) {
+            return -1;
+        }
+    }
+
+    static MethodHandle findVirtual(Class<?> owner, String name, MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(owner, name, type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasClass(String name) {
+        try {
+            Class.forName(name, false, ServerCompat.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // "1.20.4-R0.1-SNAPSHOT" -> {20, 4}; unknown formats are treated as 1.12
+    private static int[] parseVersion(String bukkitVersion) {
+        int[] version = {12, 0};
+        String[] parts = bukkitVersion.split("-", 2)[0].split("\\.");
+        try {
+            if (parts.length > 1) {
+                version[0] = Integer.parseInt(parts[1]);
+            }
+            if (parts.length > 2) {
+                version[1] = Integer.parseInt(parts[2]);
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        return version;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package eternalpolar.spigot.eternaloptimization.Utils.Compat;
+
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CompletableFuture;
+
+public final class WorldAccess {
+
+    private static final MethodHandle IS_CHUNK_FORCE_LOADED =
+            ServerCompat.findVirtual(World.class, "isChunkForceLoaded", MethodType.methodType(boolean.class, int.class, int.class));
+    private static final MethodHandle IS_CHUNK_GENERATED =
+            ServerCompat.findVirtual(World.class, "isChunkGenerated", MethodType.methodType(boolean.class, int.class, int.class));
+    // 1.14+
+    private static final MethodHandle ADD_PLUGIN_CHUNK_TICKET =
+            ServerCompat.findVirtual(World.class, "addPluginChunkTicket", MethodType.methodType(boolean.class, int.class, int.class, Plugin.class));
+    private static final MethodHandle REMOVE_PLUGIN_CHUNK_TICKET =
+            ServerCompat.findVirtual(World.class, "removePluginChunkTicket", MethodType.methodType(boolean.class, int.class, int.class, Plugin.class));
+    private static final MethodHandle REMOVE_PLUGIN_CHUNK_TICKETS =
+            ServerCompat.findVirtual(World.class, "removePluginChunkTickets", MethodType.methodType(void.class, Plugin.class));
+    // Paper only
+    private static final MethodHandle GET_CHUNK_AT_ASYNC =
+            ServerCompat.findVirtual(World.class, "getChunkAtAsync", MethodType.methodType(CompletableFuture.class, int.class, int.class, boolean.class));
+
+    private WorldAccess() {
+    }
+
+    public static boolean isChunkLoaded(World world, int x, int z) {
+        return world.isChunkLoaded(x, z);
+    }
+
+    public static boolean isChunkForceLoaded(World world, int x, int z) {
+        if (IS_CHUNK_FORCE_LOADED != null) {
+            try {
+                return (boolean) IS_CHUNK_FORCE_LOADED.invokeExact(world, x, z);
+            } catch (Throwable t) {
+                return false;
+            }
+        }
+        // never load a chunk just to ask whether it is force loaded
+        return ChunkAccess.supportsForceLoading() && world.isChunkLoaded(x, z)
+                && ChunkAccess.isForceLoaded(world.getChunkAt(x, z));
+    }
+
+    /** {@code false} when the server cannot tell (before 1.13), so callers load the chunk to find out. */
+    public static boolean isChunkGenerated(World world, int x, int z) {
+        if (IS_CHUNK_GENERATED == null) return false;
+        try {
+            return (boolean) IS_CHUNK_GENERATED.invokeExact(world, x, z);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public static boolean loadChunk(World world, int x, int z, boolean generate) {
+        return world.loadChunk(x, z, generate);
+    }
+
+    public static boolean supportsPluginChunkTickets() {
+        return ADD_PLUGIN_CHUNK_TICKET != null && REMOVE_PLUGIN_CHUNK_TICKET != null && REMOVE_PLUGIN_CHUNK_TICKETS != null;
+    }
+
+    /** Loads (and generates) the chunk if needed, so callers only ticket chunks that are already loaded. */
+    public static boolean addPluginChunkTicket(World world, int x, int z, Plugin plugin) {
+        try {
+            return (boolean) ADD_PLUGIN_CHUNK_TICKET.invokeExact(world, x, z, plugin);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public static boolean removePluginChunkTicket(World world, int x, int z, Plugin plugin) {
+        try {
+            return (boolean) REMOVE_PLUGIN_CHUNK_TICKET.invokeExact(world, x, z, plugin);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public static void removePluginChunkTickets(World world, Plugin plugin) {
+        try {
+            REMOVE_PLUGIN_CHUNK_TICKETS.invokeExact(world, plugin);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    public static boolean supportsAsyncChunkLoading() {
+        return GET_CHUNK_AT_ASYNC != null;
+    }
+
+    /** Completes with {@code null} when the chunk does not exist and {@code generate} is false. */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<Chunk> getChunkAtAsync(World world, int x, int z, boolean generate) {
+        if (GET_CHUNK_AT_ASYNC == null) {
+            throw new UnsupportedOperationException("getChunkAtAsync is not available on this server");
+        }
+        try {
+            return (CompletableFuture<Chunk>) (CompletableFuture<?>) GET_CHUNK_AT_ASYNC.invokeExact(world, x, z, generate);
+        } catch (Throwable t) {
+            CompletableFuture<Chunk> failed = new CompletableFuture<>();
+            failed.completeExceptionally(t);
+            return failed;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+package eternalpolar.spigot.eternaloptimization.Utils;
+
+import eternalpolar.spigot.eternaloptimization.EternalOptimization;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cooperative main-thread scheduler. Every module owns a {@link Lane} with its own
+ * per-tick budget in microseconds (config.yml {@code tick-budget.<lane>}); work runs
+ * by priority, then deadline, and whatever does not fit is carried to the next tick.
+ */
+public class TickScheduler {
+
+    public static final int PRIORITY_HIGH = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_LOW = 2;
+
+    private static final int DEFAULT_BUDGET_MICROS = 1000;
+    private static final double INTERVAL_SMOOTHING = 0.1;
+
+    private final EternalOptimization plugin;
+    private final BukkitTask tickTask;
+    private volatile Lane[] lanes = new Lane[0];
+    private volatile long currentTick;
+    private volatile double tickIntervalMillis = 50.0;
+    private long lastTickNanos;
+    private int firstLane;
+
+    public TickScheduler(EternalOptimization plugin) {
+        this.plugin = plugin;
+        this.tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+    }
+
+    public synchronized Lane lane(String name) {
+        for (Lane lane : lanes) {
+            if (lane.name.equals(name)) return lane;
+        }
+        Lane lane = new Lane(name);
+        lane.loadBudget();
+        Lane[] updated = Arrays.copyOf(lanes, lanes.length + 1);
+        updated[lanes.length] = lane;
+        lanes = updated;
+        return lane;
+    }
+
+    public void loadConfig() {
+        for (Lane lane : lanes) {
+            lane.loadBudget();
+        }
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        if (lastTickNanos != 0) {
+            tickIntervalMillis += INTERVAL_SMOOTHING * ((now - lastTickNanos) / 1_000_000.0 - tickIntervalMillis);
+        }
+        lastTickNanos = now;
+
+        long tick = ++currentTick;
+        Lane[] current = lanes;
+        if (current.length == 0) return;
+
+        // rotate the starting lane so no module is always served last
+        for (int i = 0; i < current.length; i++) {
+            current[(firstLane + i) % current.length].runTick(tick);
+        }
+        firstLane = (firstLane + 1) % current.length;
+    }
+
+    public List<Lane> getLanes() {
+        return Arrays.asList(lanes);
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /** Smoothed wall time between ticks; 50 ms on a healthy server, more once it falls behind. */
+    public double getTickIntervalMillis() {
+        return tickIntervalMillis;
+    }
+
+    public void disable() {
+        tickTask.cancel();
+        for (Lane lane : lanes) {
+            lane.clear();
+        }
+    }
+
+    public interface Work {
+        /**
+         * Runs a slice of work on the main thread. Return {@code true} when finished,
+         * {@code false} to continue next tick (e.g. once {@code deadlineNanos} has passed).
+         */
+        boolean run(long deadlineNanos);
+    }
+
+    public final class Lane {
+        private final String name;
+        private final ConcurrentLinkedQueue<Entry> inbox = new ConcurrentLinkedQueue<>();
+        private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+        private final List<Entry> carried = new ArrayList<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicLong sequence = new AtomicLong();
+        private volatile long budgetNanos;
+        private long executed;
+        private long overruns;
+        private long maxOverrunMicros;
+        private long late;
+        private long lastUsedMicros;
+
+        private Lane(String name) {
+            this.name = name;
+        }
+
+        private void loadBudget() {
+            int micros = plugin.getConfig().getInt("tick-budget." + name, DEFAULT_BUDGET_MICROS);
+            budgetNanos = Math.max(50, micros) * 1000L;
+        }
+
+        public void submit(Runnable task) {
+            submit(PRIORITY_NORMAL, 0, task);
+        }
+
+        public void submit(int priority, int deadlineTicks, Runnable task) {
+            submit(priority, deadlineTicks, deadlineNanos -> {
+                task.run();
+                return true;
+            });
+        }
+
+        /** Thread safe; a deadline of 0 ticks means none. */
+        public void submit(int priority, int deadlineTicks, Work work) {
+            long deadlineTick = deadlineTicks > 0 ? currentTick + deadlineTicks : Long.MAX_VALUE;
+            inbox.add(new Entry(priority, deadlineTick, sequence.getAndIncrement(), work));
+            depth.incrementAndGet();
+        }
+
+        private void runTick(long tick) {
+            Entry entry;
+            while ((entry = inbox.poll()) != null) {
+                queue.add(entry);
+            }
+            if (queue.isEmpty()) {
+                lastUsedMicros = 0;
+                return;
+            }
+
+            long start = System.nanoTime();
+            long deadline = start + budgetNanos;
+            while (!queue.isEmpty() && System.nanoTime() < deadline) {
+                entry = queue.poll();
+                if (!entry.late && tick > entry.deadlineTick) {
+                    entry.late = true;
+                    late++;
+                }
+
+                boolean finished;
+                try {
+                    finished = entry.work.run(deadline);
+                } catch (Exception | LinkageError e) {
+                    // version-specific calls fail with LinkageErrors; drop the work, not the lane
+                    plugin.getLogger().warning("Scheduled " + name + " work failed: " + e);
+                    finished = true;
+                }
+                executed++;
+
+                if (finished) {
+                    depth.decrementAndGet();
+                } else {
+                    carried.add(entry);
+                }
+            }
+            queue.addAll(carried);
+            carried.clear();
+
+            long used = System.nanoTime() - start;
+            lastUsedMicros = used / 1000;
+            if (used > budgetNanos) {
+                overruns++;
+                maxOverrunMicros = Math.max(maxOverrunMicros, (used - budgetNanos) / 1000);
+            }
+        }
+
+        private void clear() {
+            inbox.clear();
+            queue.clear();
+            depth.set(0);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getQueueDepth() {
+            return depth.get();
+        }
+
+        public long getBudgetMicros() {
+            return budgetNanos / 1000;
+        }
+
+        public long getLastUsedMicros() {
+            return lastUsedMicros;
+        }
+
+        public long getExecuted() {
+            return executed;
+        }
+
+        public long getOverruns() {
+            return overruns;
+        }
+
+        public long getMaxOverrunMicros() {
+            return maxOverrunMicros;
+        }
+
+        public long getLate() {
+            return late;
+        }
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        final int priority;
+        final long deadlineTick;
+        final long sequence;
+        final Work work;
+        boolean late;
+
+        Entry(int priority, long deadlineTick, long sequence, Work work) {
+            this.priority = priority;
+            this.deadlineTick = deadlineTick;
+            this.sequence = sequence;
+            this.work = work;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (priority != other.priority) return Integer.compare(priority, other.priority);
+            if (deadlineTick != other.deadlineTick) return Long.compare(deadlineTick, other.deadlineTick);
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
\ No newline at end of file
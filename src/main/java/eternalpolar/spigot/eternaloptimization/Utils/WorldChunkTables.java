@@ -0,0 +1,52 @@
+package eternalpolar.spigot.eternaloptimization.Utils;
+
+public class WorldChunkTables {
+
+    private volatile ChunkTable[] tables = new ChunkTable[0];
+
+    public ChunkTable get(int worldIndex) {
+        ChunkTable[] current = tables;
+        return worldIndex >= 0 && worldIndex < current.length ? current[worldIndex] : null;
+    }
+
+    public ChunkTable getOrCreate(int worldIndex) {
+        ChunkTable table = get(worldIndex);
+        return table != null ? table : create(worldIndex);
+    }
+
+    public int size(int worldIndex) {
+        ChunkTable table = get(worldIndex);
+        return table != null ? table.size() : 0;
+    }
+
+    public int totalSize() {
+        int total = 0;
+        for (ChunkTable table : tables) {
+            if (table != null) {
+                total += table.size();
+            }
+        }
+        return total;
+    }
+
+    public void clear() {
+        for (ChunkTable table : tables) {
+            if (table != null) {
+                table.clear();
+            }
+        }
+    }
+
+    private synchronized ChunkTable create(int worldIndex) {
+        ChunkTable[] current = tables;
+        if (worldIndex < current.length && current[worldIndex] != null) {
+            return current[worldIndex];
+        }
+        ChunkTable[] updated = new ChunkTable[Math.max(current.length, worldIndex + 1)];
+        System.arraycopy(current, 0, updated, 0, current.length);
+        ChunkTable table = new ChunkTable(256);
+        updated[worldIndex] = table;
+        tables = updated;
+        return table;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package eternalpolar.spigot.eternaloptimization.Utils;
+
+import org.bukkit.World;
+
+/**
+ * Assigns every world a small, stable int index so per-world state can live in arrays.
+ * A world that is unloaded and loaded again under the same name keeps its index.
+ */
+public final class WorldIndex {
+
+    private static volatile World[] worlds = new World[0];
+
+    private WorldIndex() {
+    }
+
+    public static int of(World world) {
+        World[] current = worlds;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == world) return i;
+        }
+        return register(world);
+    }
+
+    public static World get(int index) {
+        World[] current = worlds;
+        return index >= 0 && index < current.length ? current[index] : null;
+    }
+
+    public static int size() {
+        return worlds.length;
+    }
+
+    private static synchronized int register(World world) {
+        World[] current = worlds;
+        String name = world.getName();
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == world) return i;
+            if (current[i].getName().equals(name)) {
+                World[] updated = current.clone();
+                updated[i] = world;
+                worlds = updated;
+                return i;
+            }
+        }
+        World[] updated = new World[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, current.length);
+        updated[current.length] = world;
+        worlds = updated;
+        return current.length;
+    }
+}
\ No newline at end of file